@@ -2,12 +2,16 @@ package com.editorialhouse.backend;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 
 @SpringBootApplication
 public class EditorialHouseBackendApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(EditorialHouseBackendApplication.class, args);
+		SpringApplication application = new SpringApplication(EditorialHouseBackendApplication.class);
+		// Records the startup steps that StartupTimingReporter logs once the node is ready
+		application.setApplicationStartup(new BufferingApplicationStartup(10_000));
+		application.run(args);
 	}
 
 }
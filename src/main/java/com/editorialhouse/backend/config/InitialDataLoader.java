@@ -2,9 +2,11 @@ package com.editorialhouse.backend.config;
 
 import com.editorialhouse.backend.model.Privilege;
 import com.editorialhouse.backend.model.Role;
+import com.editorialhouse.backend.model.SeedVersion;
 import com.editorialhouse.backend.model.User;
 import com.editorialhouse.backend.repository.PrivilegeRepository;
 import com.editorialhouse.backend.repository.RoleRepository;
+import com.editorialhouse.backend.repository.SeedVersionRepository;
 import com.editorialhouse.backend.repository.UserRepository;
 import org.springframework.context.ApplicationListener;
 import org.springframework.context.event.ContextRefreshedEvent;
@@ -22,17 +24,23 @@ import java.util.concurrent.TimeUnit;
 @Component
 public class InitialDataLoader implements ApplicationListener<ContextRefreshedEvent> {
 
+    // Bump whenever the privileges, roles or users below change, so existing databases are seeded again
+    static final int SEED_VERSION = 1;
+    private static final long SEED_VERSION_ID = 1L;
+
     private boolean alreadySetup = false;
 
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final PrivilegeRepository privilegeRepository;
+    private final SeedVersionRepository seedVersionRepository;
     private final PasswordEncoder passwordEncoder;
 
-    public InitialDataLoader(UserRepository userRepository, RoleRepository roleRepository, PrivilegeRepository privilegeRepository, PasswordEncoder passwordEncoder) {
+    public InitialDataLoader(UserRepository userRepository, RoleRepository roleRepository, PrivilegeRepository privilegeRepository, SeedVersionRepository seedVersionRepository, PasswordEncoder passwordEncoder) {
         this.userRepository = userRepository;
         this.roleRepository = roleRepository;
         this.privilegeRepository = privilegeRepository;
+        this.seedVersionRepository = seedVersionRepository;
         this.passwordEncoder = passwordEncoder;
     }
 
@@ -42,6 +50,12 @@ public class InitialDataLoader implements ApplicationListener<ContextRefreshedEv
         if (alreadySetup)
             return;
 
+        // An already seeded database costs one primary-key lookup instead of the ~20 lookups below
+        if (seedVersionRepository.findById(SEED_VERSION_ID).filter(seed -> seed.getVersion() >= SEED_VERSION).isPresent()) {
+            alreadySetup = true;
+            return;
+        }
+
         // == 1. Create Privileges
         Privilege readPrivilege = createPrivilegeIfNotFound("READ_PRIVILEGE");
         Privilege writePrivilege = createPrivilegeIfNotFound("WRITE_PRIVILEGE");
@@ -109,6 +123,7 @@ public class InitialDataLoader implements ApplicationListener<ContextRefreshedEv
             userRepository.save(clerk);
         }
 
+        seedVersionRepository.save(new SeedVersion(SEED_VERSION_ID, SEED_VERSION, new Date()));
         alreadySetup = true;
     }
 
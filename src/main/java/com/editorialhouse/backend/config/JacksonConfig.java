@@ -0,0 +1,54 @@
+package com.editorialhouse.backend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Proxy;
+
+/**
+ * JSON stays the default response format; clients sending {@code Accept: application/cbor} or
+ * {@code Accept: application/x-jackson-smile} get the same documents in a compact binary encoding.
+ * <p>
+ * All mappers come from Boot's {@link Jackson2ObjectMapperBuilder}, so they share its settings and modules, including
+ * Blackbird, which replaces Jackson's reflective getter/setter calls with generated lambdas.
+ */
+@Configuration
+public class JacksonConfig {
+
+    // JDK proxies, e.g. Spring Data projections, live in a module Blackbird cannot open; a null lookup leaves them
+    // to the reflective serializer
+    @Bean
+    public BlackbirdModule blackbirdModule() {
+        return new BlackbirdModule(type -> {
+            if (Proxy.isProxyClass(type)) {
+                return null;
+            }
+            try {
+                return MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+            } catch (IllegalAccessException e) {
+                return null;
+            }
+        });
+    }
+
+    // Same class as Spring MVC's default binary converters, so Boot puts these in their place, after JSON
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        ObjectMapper cborMapper = builder.factory(new CBORFactory()).build();
+        return new MappingJackson2CborHttpMessageConverter(cborMapper);
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        ObjectMapper smileMapper = builder.factory(new SmileFactory()).build();
+        return new MappingJackson2SmileHttpMessageConverter(smileMapper);
+    }
+}
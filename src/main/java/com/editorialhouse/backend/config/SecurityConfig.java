@@ -1,6 +1,10 @@
 package com.editorialhouse.backend.config;
 
+import com.editorialhouse.backend.config.ratelimit.RateLimitFilter;
+import com.editorialhouse.backend.config.ratelimit.RateLimiter;
 import com.editorialhouse.backend.service.CustomUserDetailsService;
+import com.editorialhouse.backend.service.SessionExpiryService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -12,9 +16,16 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.context.DelegatingSecurityContextRepository;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextHolderFilter;
+import org.springframework.security.web.context.SecurityContextRepository;
 import org.springframework.security.web.csrf.CookieCsrfTokenRepository;
+import org.springframework.security.web.csrf.CsrfFilter;
 import org.springframework.security.web.csrf.CsrfTokenRequestAttributeHandler;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RegexRequestMatcher;
 
 @Configuration
 @EnableWebSecurity
@@ -22,9 +33,15 @@ import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 public class SecurityConfig {
 
     private final CustomUserDetailsService userDetailsService;
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+    private final SessionExpiryService sessionExpiryService;
 
-    public SecurityConfig(CustomUserDetailsService userDetailsService) {
+    public SecurityConfig(CustomUserDetailsService userDetailsService, RateLimiter rateLimiter, ObjectMapper objectMapper, SessionExpiryService sessionExpiryService) {
         this.userDetailsService = userDetailsService;
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+        this.sessionExpiryService = sessionExpiryService;
     }
 
     @Bean
@@ -34,6 +51,11 @@ public class SecurityConfig {
         requestHandler.setCsrfRequestAttributeName(null); // Use null to not expose the token as a request attribute
 
         http
+            // Throttle before CSRF checks, authentication and the database are involved
+            .addFilterBefore(new RateLimitFilter(rateLimiter, objectMapper), CsrfFilter.class)
+            .securityContext(context -> context.securityContextRepository(securityContextRepository()))
+            // Expired sign-ins are dropped before anything below sees the authentication
+            .addFilterAfter(new SessionExpiryFilter(sessionExpiryService), SecurityContextHolderFilter.class)
             .csrf(csrf -> csrf
                 .csrfTokenRepository(CookieCsrfTokenRepository.withHttpOnlyFalse())
                 .csrfTokenRequestHandler(requestHandler)
@@ -42,7 +64,14 @@ public class SecurityConfig {
                 // Exception: Web Users may only read published articles, sign-in, or sign-up without a session.
                 .requestMatchers(
                     new AntPathRequestMatcher("/api/auth/**"), // Sign-in, Sign-up, Logout
-                    new AntPathRequestMatcher("/api/articles/published", "GET") // Read published articles
+                    new AntPathRequestMatcher("/api/articles/published", "GET"), // Read published articles
+                    new RegexRequestMatcher("/api/articles/\\d+", "GET"), // Read a single published article
+                    new AntPathRequestMatcher("/api/articles/batch", "GET"), // Read several published articles at once
+                    new AntPathRequestMatcher("/api/articles/rankings/**", "GET"), // Top/trending published articles
+                    new RegexRequestMatcher("/api/articles/\\d+/related(\\?.*)?", "GET"), // Similar published articles
+                    new AntPathRequestMatcher("/api/articles/*/interactions/comments", "GET"), // Comment threads of published articles
+                    new AntPathRequestMatcher("/api/media/**", "GET"), // Media embedded in published articles
+                    new AntPathRequestMatcher("/api/media/**", "HEAD") // ... and its size and range support, for players and CDNs
                 ).permitAll()
                 .anyRequest().authenticated() // All other requests require authentication
             )
@@ -62,6 +91,13 @@ public class SecurityConfig {
         return authenticationManagerBuilder.build();
     }
 
+    // Shared with AuthController, which has to save the context itself after a programmatic login
+    @Bean
+    public SecurityContextRepository securityContextRepository() {
+        return new DelegatingSecurityContextRepository(
+                new RequestAttributeSecurityContextRepository(), new HttpSessionSecurityContextRepository());
+    }
+
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
@@ -0,0 +1,45 @@
+package com.editorialhouse.backend.config;
+
+import com.editorialhouse.backend.service.SessionExpiryService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Signs out a session whose user is past their session expiration date: the session is invalidated and the request
+ * continues unauthenticated, so public endpoints and signing in again still work. Registered by SecurityConfig
+ * right after the security context is loaded.
+ */
+public class SessionExpiryFilter extends OncePerRequestFilter {
+
+    private final SessionExpiryService sessionExpiryService;
+
+    public SessionExpiryFilter(SessionExpiryService sessionExpiryService) {
+        this.sessionExpiryService = sessionExpiryService;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain) throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated() && !(authentication instanceof AnonymousAuthenticationToken)) {
+            HttpSession session = request.getSession(false);
+            if (sessionExpiryService.isExpired(authentication.getName())) {
+                if (session != null) {
+                    session.invalidate();
+                }
+                SecurityContextHolder.clearContext();
+            } else if (session != null) {
+                sessionExpiryService.track(session, authentication.getName());
+            }
+        }
+        chain.doFilter(request, response);
+    }
+}
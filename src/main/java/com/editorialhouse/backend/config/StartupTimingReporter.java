@@ -0,0 +1,89 @@
+package com.editorialhouse.backend.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.RuntimeMXBean;
+import java.util.Comparator;
+import java.util.StringJoiner;
+
+/**
+ * Logs how long the node took to start, split into JVM bootstrap, context refresh and the ready listeners that
+ * warm the in-memory indexes, followed by the slowest recorded startup steps (bean instantiations, configuration
+ * class processing and so on).
+ * <p>
+ * Readiness is reported only after all {@link ApplicationReadyEvent} listeners have returned, so the last phase ends
+ * when the node starts accepting traffic.
+ */
+@Component
+public class StartupTimingReporter {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupTimingReporter.class);
+
+    private final ApplicationStartup applicationStartup;
+    private final int slowestSteps;
+
+    private long runStartedAt; // When SpringApplication.run was entered
+    private long startedMs; // From there to the refreshed context
+    private long readyMs; // ... and through the runners
+
+    public StartupTimingReporter(ApplicationStartup applicationStartup,
+                                 @Value("${startup.timing.slowest-steps:10}") int slowestSteps) {
+        this.applicationStartup = applicationStartup;
+        this.slowestSteps = slowestSteps;
+    }
+
+    @EventListener
+    public void onStarted(ApplicationStartedEvent event) {
+        startedMs = event.getTimeTaken() == null ? 0 : event.getTimeTaken().toMillis();
+        runStartedAt = System.currentTimeMillis() - startedMs;
+    }
+
+    @EventListener
+    public void onReady(ApplicationReadyEvent event) {
+        readyMs = event.getTimeTaken() == null ? 0 : event.getTimeTaken().toMillis();
+    }
+
+    @EventListener
+    public void onReadiness(AvailabilityChangeEvent<ReadinessState> event) {
+        if (event.getState() != ReadinessState.ACCEPTING_TRAFFIC || readyMs == 0) {
+            return;
+        }
+        RuntimeMXBean runtime = ManagementFactory.getRuntimeMXBean();
+        long now = System.currentTimeMillis();
+        log.info("Startup took {} ms: JVM and launcher {} ms, context refresh {} ms, runners {} ms, ready listeners {} ms",
+                now - runtime.getStartTime(), runStartedAt - runtime.getStartTime(), startedMs, readyMs - startedMs,
+                now - runStartedAt - readyMs);
+        readyMs = 0;
+
+        if (applicationStartup instanceof BufferingApplicationStartup buffering) {
+            StartupTimeline timeline = buffering.drainBufferedTimeline();
+            if (slowestSteps > 0) {
+                StringJoiner steps = new StringJoiner("\n  ", "Slowest startup steps:\n  ", "");
+                timeline.getEvents().stream()
+                        .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                        .limit(slowestSteps)
+                        .forEach(step -> steps.add(step.getDuration().toMillis() + " ms " + describe(step.getStartupStep())));
+                log.info(steps.toString());
+            }
+        }
+    }
+
+    private static String describe(StartupStep step) {
+        StringJoiner description = new StringJoiner(" ", step.getName() + " ", "").setEmptyValue(step.getName());
+        step.getTags().forEach(tag -> description.add(tag.getKey() + "=" + tag.getValue()));
+        return description.toString();
+    }
+}
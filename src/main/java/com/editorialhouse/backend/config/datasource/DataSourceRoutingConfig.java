@@ -0,0 +1,69 @@
+package com.editorialhouse.backend.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replaces the auto-configured DataSource with a primary/replica router when
+ * {@code app.datasource.routing.enabled=true}. The primary keeps using the regular {@code spring.datasource.*} settings.
+ */
+@Configuration
+@EnableConfigurationProperties({DataSourceProperties.class, DataSourceRoutingProperties.class})
+@ConditionalOnProperty(prefix = "app.datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean(destroyMethod = "close")
+    public ReplicaHealthMonitor replicaHealthMonitor(DataSourceProperties dataSourceProperties, DataSourceRoutingProperties routingProperties) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName("primary");
+
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < routingProperties.getReplicas().size(); i++) {
+            DataSourceRoutingProperties.Replica replica = routingProperties.getReplicas().get(i);
+            HikariDataSource pool = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(replica.getUrl())
+                    .username(replica.getUsername() != null ? replica.getUsername() : dataSourceProperties.getUsername())
+                    .password(replica.getPassword() != null ? replica.getPassword() : dataSourceProperties.getPassword())
+                    .build();
+            pool.setPoolName("replica-" + i);
+            pool.setReadOnly(true);
+            pool.setMaximumPoolSize(replica.getMaximumPoolSize());
+            replicas.add(pool);
+        }
+        ReplicaHealthMonitor monitor = new ReplicaHealthMonitor(primary, replicas, routingProperties.getMaxLagMs());
+        monitor.check(); // Start with an accurate view instead of routing every read to the primary until the first tick
+        return monitor;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaHealthMonitor monitor, DataSourceRoutingProperties routingProperties) {
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(ReadWriteRoutingDataSource.PRIMARY, monitor.getPrimary());
+        List<String> replicaKeys = new ArrayList<>();
+        for (HikariDataSource replica : monitor.getReplicas()) {
+            targets.put(replica.getPoolName(), replica);
+            replicaKeys.add(replica.getPoolName());
+        }
+
+        ReadWriteRoutingDataSource router = new ReadWriteRoutingDataSource(replicaKeys, monitor::isHealthy, routingProperties.getStickyAfterWriteMs());
+        router.setTargetDataSources(targets);
+        router.setDefaultTargetDataSource(monitor.getPrimary());
+        router.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(router);
+    }
+}
@@ -0,0 +1,32 @@
+package com.editorialhouse.backend.config.datasource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "app.datasource.routing")
+public class DataSourceRoutingProperties {
+
+    private boolean enabled = false;
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    // Replicas whose heartbeat is older than this are skipped; -1 disables the check (e.g. unreplicated local test instances)
+    private long maxLagMs = 2000;
+
+    private long healthCheckIntervalMs = 1000;
+
+    // After a write, the same user's read-only transactions stay on the primary for this long
+    private long stickyAfterWriteMs = 5000;
+
+    @Data
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
@@ -0,0 +1,96 @@
+package com.editorialhouse.backend.config.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntPredicate;
+
+/**
+ * Sends {@code @Transactional(readOnly = true)} work to a healthy replica and everything else to the primary.
+ * <p>
+ * Must sit behind a {@code LazyConnectionDataSourceProxy}: the read-only flag of a transaction is only known
+ * after it has begun, so the physical connection has to be fetched on the first statement.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private final List<String> replicaKeys;
+    private final IntPredicate replicaHealthy;
+    private final long stickyAfterWriteMs;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    // Username -> time until which that user's reads stay on the primary (read-your-writes)
+    private final ConcurrentHashMap<String, Long> stickyUntil = new ConcurrentHashMap<>();
+    private final AtomicLong nextPurge = new AtomicLong();
+
+    public ReadWriteRoutingDataSource(List<String> replicaKeys, IntPredicate replicaHealthy, long stickyAfterWriteMs) {
+        this.replicaKeys = replicaKeys;
+        this.replicaHealthy = replicaHealthy;
+        this.stickyAfterWriteMs = stickyAfterWriteMs;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String username = currentUsername();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            markStickyAfterCommit(username);
+            return PRIMARY;
+        }
+        if (username != null) {
+            Long until = stickyUntil.get(username);
+            if (until != null) {
+                if (until > System.currentTimeMillis()) {
+                    return PRIMARY;
+                }
+                stickyUntil.remove(username, until);
+            }
+        }
+        // Round-robin over replicas, skipping any that are down or lagging; the primary is the last resort
+        int start = Math.floorMod(nextReplica.getAndIncrement(), Math.max(replicaKeys.size(), 1));
+        for (int i = 0; i < replicaKeys.size(); i++) {
+            int index = (start + i) % replicaKeys.size();
+            if (replicaHealthy.test(index)) {
+                return replicaKeys.get(index);
+            }
+        }
+        return PRIMARY;
+    }
+
+    private void markStickyAfterCommit(String username) {
+        if (username == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                long now = System.currentTimeMillis();
+                stickyUntil.put(username, now + stickyAfterWriteMs);
+                purgeExpired(now);
+            }
+        });
+    }
+
+    // Users who write and never read again would otherwise stay in the map; one writer per window sweeps it,
+    // so it holds no more than the users who wrote within about two windows
+    private void purgeExpired(long now) {
+        long due = nextPurge.get();
+        if (now >= due && nextPurge.compareAndSet(due, now + stickyAfterWriteMs)) {
+            stickyUntil.values().removeIf(until -> until <= now);
+        }
+    }
+
+    private static String currentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() && !(authentication instanceof AnonymousAuthenticationToken)
+                ? authentication.getName()
+                : null;
+    }
+}
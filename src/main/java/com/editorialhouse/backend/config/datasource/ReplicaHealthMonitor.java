@@ -0,0 +1,94 @@
+package com.editorialhouse.backend.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Owns the primary and replica connection pools and tracks which replicas may serve reads.
+ * <p>
+ * Lag is measured with a heartbeat row that the primary rewrites on every check and each replica is
+ * asked for; a replica whose copy of the row is older than {@code maxLagMs}, or that cannot be reached,
+ * is taken out of rotation until a later check finds it caught up.
+ */
+public class ReplicaHealthMonitor implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaHealthMonitor.class);
+
+    private final HikariDataSource primary;
+    private final List<HikariDataSource> replicas;
+    private final long maxLagMs;
+    private final AtomicIntegerArray healthy;
+
+    public ReplicaHealthMonitor(HikariDataSource primary, List<HikariDataSource> replicas, long maxLagMs) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.maxLagMs = maxLagMs;
+        this.healthy = new AtomicIntegerArray(replicas.size());
+    }
+
+    public HikariDataSource getPrimary() {
+        return primary;
+    }
+
+    public List<HikariDataSource> getReplicas() {
+        return replicas;
+    }
+
+    public boolean isHealthy(int replicaIndex) {
+        return healthy.get(replicaIndex) == 1;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.routing.health-check-interval-ms:1000}")
+    public void check() {
+        if (maxLagMs >= 0) {
+            try {
+                writeHeartbeat();
+            } catch (RuntimeException e) {
+                log.warn("Could not write replication heartbeat on the primary", e);
+            }
+        }
+        for (int i = 0; i < replicas.size(); i++) {
+            boolean replicaHealthy;
+            try {
+                replicaHealthy = maxLagMs < 0 ? isReachable(replicas.get(i)) : lagMs(replicas.get(i)) <= maxLagMs;
+            } catch (RuntimeException e) {
+                replicaHealthy = false;
+            }
+            if (healthy.getAndSet(i, replicaHealthy ? 1 : 0) == 1 && !replicaHealthy) {
+                log.warn("Replica {} taken out of read rotation", replicas.get(i).getPoolName());
+            }
+        }
+    }
+
+    private void writeHeartbeat() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(primary);
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        if (jdbcTemplate.update("UPDATE replication_heartbeat SET beat_time = ? WHERE id = 1", now) == 0) {
+            jdbcTemplate.update("INSERT INTO replication_heartbeat (id, beat_time) VALUES (1, ?)", now);
+        }
+    }
+
+    private long lagMs(HikariDataSource replica) {
+        List<Timestamp> beats = new JdbcTemplate(replica)
+                .queryForList("SELECT beat_time FROM replication_heartbeat WHERE id = 1", Timestamp.class);
+        return beats.isEmpty() || beats.get(0) == null ? Long.MAX_VALUE : System.currentTimeMillis() - beats.get(0).getTime();
+    }
+
+    private boolean isReachable(HikariDataSource replica) {
+        Integer one = new JdbcTemplate(replica).queryForObject("SELECT 1", Integer.class);
+        return one != null && one == 1;
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(HikariDataSource::close);
+        primary.close();
+    }
+}
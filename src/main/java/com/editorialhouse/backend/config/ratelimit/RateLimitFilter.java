@@ -0,0 +1,189 @@
+package com.editorialhouse.backend.config.ratelimit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.ByteArrayInputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rejects requests over their route's rate limit with 429 and a Retry-After header, before they reach
+ * password hashing or the database. Registered in the security filter chain by SecurityConfig.
+ * <p>
+ * IP keys use {@link HttpServletRequest#getRemoteAddr()}. Behind a load balancer that is the balancer's address, so
+ * {@code server.forward-headers-strategy=native} lets Tomcat take the client address from X-Forwarded-For, but only
+ * when the request comes from a trusted proxy ({@code server.tomcat.remoteip.internal-proxies}).
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    // Login bodies are tiny; anything larger is rejected before it is parsed for a username
+    private static final int MAX_LOGIN_BODY_BYTES = 4096;
+
+    private record Route(RateLimitProperties.Policy policy, AntPathRequestMatcher matcher) {
+    }
+
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+    private final List<Route> routes;
+
+    public RateLimitFilter(RateLimiter rateLimiter, ObjectMapper objectMapper) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+        this.routes = rateLimiter.getProperties().getPolicies().stream()
+                .map(policy -> new Route(policy, new AntPathRequestMatcher(policy.getPath(), policy.getMethod())))
+                .toList();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain) throws ServletException, IOException {
+        if (!rateLimiter.getProperties().isEnabled()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        HttpServletRequest current = request;
+        for (Route route : routes) {
+            if (!route.matcher().matches(current)) {
+                continue;
+            }
+            String key;
+            switch (route.policy().getKey()) {
+                case USER -> key = currentUsername(current);
+                case LOGIN_USERNAME -> {
+                    CachedBodyRequest cached = current instanceof CachedBodyRequest c ? c : new CachedBodyRequest(current);
+                    if (cached.body == null) {
+                        response.setStatus(HttpStatus.PAYLOAD_TOO_LARGE.value());
+                        response.setContentType("text/plain");
+                        response.getWriter().write("Login request too large.");
+                        return;
+                    }
+                    current = cached;
+                    key = loginUsername(cached.body);
+                }
+                default -> key = current.getRemoteAddr();
+            }
+            if (key == null) {
+                continue;
+            }
+            long waitNanos = rateLimiter.tryAcquire(route.policy(), key);
+            if (waitNanos > 0) {
+                reject(response, waitNanos);
+                return;
+            }
+        }
+        chain.doFilter(current, response);
+    }
+
+    private static void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType("text/plain");
+        response.getWriter().write("Too many requests, retry in " + retryAfterSeconds + " seconds.");
+    }
+
+    private static String currentUsername(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken || !authentication.isAuthenticated()) {
+            return "ip:" + request.getRemoteAddr();
+        }
+        return "user:" + authentication.getName();
+    }
+
+    private String loginUsername(byte[] body) {
+        if (body == null) {
+            return null;
+        }
+        try {
+            JsonNode username = objectMapper.readTree(body).get("username");
+            return username != null && username.isTextual() ? username.asText().toLowerCase() : null;
+        } catch (IOException e) {
+            return null; // Malformed bodies are rejected by the controller anyway
+        }
+    }
+
+    /**
+     * Buffers a small request body so it can be inspected here and still be read by the controller. The body is null
+     * when it is longer than {@link #MAX_LOGIN_BODY_BYTES}, whether or not a Content-Length was sent.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            if (request.getContentLengthLong() > MAX_LOGIN_BODY_BYTES) {
+                this.body = null;
+                return;
+            }
+            // Chunked bodies have no length up front, so read one byte past the limit to detect an overlong one
+            byte[] read = request.getInputStream().readNBytes(MAX_LOGIN_BODY_BYTES + 1);
+            this.body = read.length > MAX_LOGIN_BODY_BYTES ? null : read;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // The whole body is already in memory, so it is available right away and then fully read
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    try {
+                        if (!isFinished()) {
+                            listener.onDataAvailable();
+                        }
+                        if (isFinished()) {
+                            listener.onAllDataRead();
+                        }
+                    } catch (IOException e) {
+                        listener.onError(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+    }
+}
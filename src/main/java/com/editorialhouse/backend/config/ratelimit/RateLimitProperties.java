@@ -0,0 +1,35 @@
+package com.editorialhouse.backend.config.ratelimit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // Upper bound on tracked keys across all policies; idle buckets are swept first when it is reached
+    private int maxKeys = 100_000;
+
+    private List<Policy> policies = new ArrayList<>();
+
+    public enum KeyType {
+        IP,
+        USER, // Authenticated username, falling back to the IP for anonymous requests
+        LOGIN_USERNAME // "username" field of a JSON login body
+    }
+
+    @Data
+    public static class Policy {
+        private String name;
+        private String path; // Ant pattern, e.g. /api/articles/*/interactions/**
+        private String method = "POST";
+        private KeyType key = KeyType.IP;
+        private int burst = 10;
+        private int requestsPerMinute = 60;
+    }
+}
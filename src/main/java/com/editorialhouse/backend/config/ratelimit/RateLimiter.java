@@ -0,0 +1,93 @@
+package com.editorialhouse.backend.config.ratelimit;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-key token buckets for the configured rate-limit policies, with allow/reject counters per policy.
+ */
+@Component
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimiter {
+
+    private final RateLimitProperties properties;
+    private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> allowed = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> rejected = new ConcurrentHashMap<>();
+    private final LongAdder overflowed = new LongAdder();
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+
+    public RateLimiter(RateLimitProperties properties) {
+        this.properties = properties;
+    }
+
+    public RateLimitProperties getProperties() {
+        return properties;
+    }
+
+    /**
+     * Returns 0 when the request may proceed, otherwise the number of nanoseconds the client should wait.
+     */
+    long tryAcquire(RateLimitProperties.Policy policy, String key) {
+        long now = System.nanoTime();
+        String bucketKey = policy.getName() + '|' + key;
+        TokenBucket bucket = buckets.get(bucketKey);
+        if (bucket == null) {
+            if (buckets.size() >= properties.getMaxKeys()) {
+                sweep();
+            }
+            if (buckets.size() >= properties.getMaxKeys()) {
+                // Still full of active keys: new keys of this policy share one bucket rather than growing the map
+                overflowed.increment();
+                bucketKey = policy.getName() + "|*overflow*";
+            }
+            bucket = buckets.computeIfAbsent(bucketKey, k -> newBucket(policy, now));
+        }
+        long waitNanos = bucket.tryAcquire(now);
+        (waitNanos == 0 ? allowed : rejected).computeIfAbsent(policy.getName(), name -> new LongAdder()).increment();
+        return waitNanos;
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void sweep() {
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long now = System.nanoTime();
+            buckets.entrySet().removeIf(entry -> entry.getValue().isIdle(now));
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("trackedKeys", buckets.size());
+        metrics.put("overflowedRequests", overflowed.sum());
+        Map<String, Map<String, Long>> policies = new LinkedHashMap<>();
+        for (RateLimitProperties.Policy policy : properties.getPolicies()) {
+            LongAdder allowedCount = allowed.get(policy.getName());
+            LongAdder rejectedCount = rejected.get(policy.getName());
+            policies.put(policy.getName(), Map.of(
+                    "allowed", allowedCount == null ? 0 : allowedCount.sum(),
+                    "rejected", rejectedCount == null ? 0 : rejectedCount.sum()));
+        }
+        metrics.put("policies", policies);
+        return metrics;
+    }
+
+    private static TokenBucket newBucket(RateLimitProperties.Policy policy, long now) {
+        long emissionInterval = TimeUnit.MINUTES.toNanos(1) / Math.max(policy.getRequestsPerMinute(), 1);
+        long burstTolerance = emissionInterval * (Math.max(policy.getBurst(), 1) - 1);
+        return new TokenBucket(emissionInterval, burstTolerance, now);
+    }
+}
@@ -0,0 +1,46 @@
+package com.editorialhouse.backend.config.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket in its GCRA form: the whole state is one "theoretical arrival time" updated by CAS.
+ * A request conforms when it arrives no earlier than {@code tat - burstTolerance}; each accepted request pushes
+ * the arrival time forward by one emission interval.
+ */
+final class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrival;
+
+    TokenBucket(long emissionIntervalNanos, long burstToleranceNanos, long nowNanos) {
+        this.emissionIntervalNanos = emissionIntervalNanos;
+        this.burstToleranceNanos = burstToleranceNanos;
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Takes a token if one is available. Returns 0 when the request is allowed, otherwise the number of
+     * nanoseconds until the next token is available.
+     */
+    long tryAcquire(long nowNanos) {
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long allowedAt = tat - burstToleranceNanos;
+            if (nowNanos < allowedAt) {
+                return allowedAt - nowNanos;
+            }
+            long next = Math.max(tat, nowNanos) + emissionIntervalNanos;
+            if (theoreticalArrival.compareAndSet(tat, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * A bucket that has fully refilled carries no state and can be dropped; a fresh one behaves identically.
+     */
+    boolean isIdle(long nowNanos) {
+        return theoreticalArrival.get() <= nowNanos;
+    }
+}
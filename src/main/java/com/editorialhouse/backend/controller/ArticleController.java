@@ -1,8 +1,16 @@
 package com.editorialhouse.backend.controller;
 
+import com.editorialhouse.backend.dto.RelatedArticle;
 import com.editorialhouse.backend.model.article.Article;
+import com.editorialhouse.backend.model.article.ArticleStatus;
 import com.editorialhouse.backend.service.article.ArticleService;
+import com.editorialhouse.backend.service.article.FeedSnapshotService;
+import com.editorialhouse.backend.service.article.RelatedArticlesService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -13,16 +21,103 @@ import java.util.List;
 @RequestMapping("/api/articles")
 public class ArticleController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_BATCH_SIZE = 100;
+    private static final MediaType SMILE = MediaType.valueOf("application/x-jackson-smile");
+    // In order of preference when the client accepts several equally
+    private static final List<MediaType> FEED_FORMATS = List.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR, SMILE);
+
     private final ArticleService articleService;
+    private final FeedSnapshotService feedSnapshotService;
+    private final RelatedArticlesService relatedArticlesService;
 
-    public ArticleController(ArticleService articleService) {
+    public ArticleController(ArticleService articleService, FeedSnapshotService feedSnapshotService, RelatedArticlesService relatedArticlesService) {
         this.articleService = articleService;
+        this.feedSnapshotService = feedSnapshotService;
+        this.relatedArticlesService = relatedArticlesService;
     }
 
-    // Public endpoint: Web Users may only read published articles
+    // Public endpoint: Web Users may only read published articles; served from the pre-compressed snapshot
     @GetMapping("/published")
-    public ResponseEntity<List<Article>> getPublishedArticles() {
-        return ResponseEntity.ok(articleService.getAllPublishedArticles());
+    public ResponseEntity<byte[]> getPublishedArticles(@RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                                       @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                                       @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        FeedSnapshotService.Snapshot snapshot = feedSnapshotService.getSnapshot();
+        MediaType format = negotiateFormat(accept);
+        String variant;
+        String encoding = "identity";
+        byte[] body;
+        if (format.equals(MediaType.APPLICATION_CBOR)) {
+            variant = "cbor";
+            body = snapshot.cbor();
+        } else if (format.equals(SMILE)) {
+            variant = "smile";
+            body = snapshot.smile();
+        } else {
+            // Binary formats are served as they are; JSON is the text format that compresses well
+            encoding = negotiateEncoding(acceptEncoding, snapshot.brotli() != null);
+            variant = encoding;
+            body = switch (encoding) {
+                case "br" -> snapshot.brotli();
+                case "gzip" -> snapshot.gzip();
+                default -> snapshot.json();
+            };
+        }
+        // Each format and encoding is a different representation and needs its own strong validator
+        String etag = variant.equals("identity") ? snapshot.etag() : snapshot.etag().replaceFirst("\"$", "-" + variant + "\"");
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(etag.equals(ifNoneMatch) ? HttpStatus.NOT_MODIFIED : HttpStatus.OK)
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache()) // Revalidate so publishes show up immediately
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+        if (etag.equals(ifNoneMatch)) {
+            return response.build();
+        }
+        if (!encoding.equals("identity")) {
+            response.header(HttpHeaders.CONTENT_ENCODING, encoding);
+        }
+        return response.contentType(format).contentLength(body.length).body(body);
+    }
+
+    // Public endpoint: Several published articles in one request (sidebars, related items), in the order asked for
+    @GetMapping("/batch")
+    public ResponseEntity<List<Article>> getPublishedArticles(@RequestParam List<Long> ids) {
+        if (ids.isEmpty() || ids.size() > MAX_BATCH_SIZE || ids.contains(null)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(feedSnapshotService.getPublishedArticles(ids));
+    }
+
+    // Public endpoint: Reads a single published article and counts the view
+    @GetMapping("/{id:\\d+}")
+    public ResponseEntity<Article> getPublishedArticle(@PathVariable Long id) {
+        return ResponseEntity.ok(articleService.getPublishedArticle(id));
+    }
+
+    // Public endpoint: Published articles with similar text, served from the in-memory MinHash index
+    @GetMapping("/{id:\\d+}/related")
+    public ResponseEntity<List<RelatedArticle>> getRelatedArticles(@PathVariable Long id, @RequestParam(defaultValue = "5") int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(relatedArticlesService.getRelated(id, limit));
+    }
+
+    // Clerk/Admin: The current author's own articles, with per-status counts on the first page
+    @PreAuthorize("hasAuthority('WRITE_PRIVILEGE')")
+    @GetMapping("/mine")
+    public ResponseEntity<?> getAuthorWorkspace(@RequestParam(required = false) ArticleStatus status,
+                                                @RequestParam(required = false) String cursor,
+                                                @RequestParam(defaultValue = "20") int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.ok(articleService.getAuthorWorkspace(status, cursor, size));
+        } catch (IllegalArgumentException e) {
+            // A malformed cursor
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
     }
 
     // Clerk/Admin: Writes, edits, and publishes articles (WRITE_PRIVILEGE)
@@ -86,4 +181,60 @@ public class ArticleController {
         articleService.deleteArticle(id);
         return ResponseEntity.noContent().build();
     }
+
+    // The feed format the client accepts with the highest q-value; JSON when none matches or the header is invalid
+    private static MediaType negotiateFormat(String accept) {
+        if (accept == null) {
+            return MediaType.APPLICATION_JSON;
+        }
+        MediaType best = MediaType.APPLICATION_JSON;
+        double bestQuality = 0;
+        try {
+            for (MediaType accepted : MediaType.parseMediaTypes(accept)) {
+                for (MediaType format : FEED_FORMATS) {
+                    if (accepted.includes(format) && accepted.getQualityValue() > bestQuality) {
+                        best = format;
+                        bestQuality = accepted.getQualityValue();
+                    }
+                }
+            }
+        } catch (InvalidMediaTypeException e) {
+            return MediaType.APPLICATION_JSON;
+        }
+        return best;
+    }
+
+    // Picks br, then gzip, among the codings the client accepts with a non-zero q-value
+    private static String negotiateEncoding(String acceptEncoding, boolean brotliAvailable) {
+        if (acceptEncoding == null) {
+            return "identity";
+        }
+        boolean br = false;
+        boolean gzip = false;
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            String coding = tokens[0].trim().toLowerCase();
+            boolean accepted = true;
+            for (int i = 1; i < tokens.length; i++) {
+                String param = tokens[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        accepted = Double.parseDouble(param.substring(2)) > 0;
+                    } catch (NumberFormatException e) {
+                        accepted = false;
+                    }
+                }
+            }
+            if (coding.equals("br") || coding.equals("*")) {
+                br = br || accepted;
+            }
+            if (coding.equals("gzip") || coding.equals("x-gzip") || coding.equals("*")) {
+                gzip = gzip || accepted;
+            }
+        }
+        if (br && brotliAvailable) {
+            return "br";
+        }
+        return gzip ? "gzip" : "identity";
+    }
 }
@@ -4,28 +4,67 @@ import com.editorialhouse.backend.model.article.Comment;
 import com.editorialhouse.backend.model.article.Rating;
 import com.editorialhouse.backend.model.article.Report;
 import com.editorialhouse.backend.service.article.ArticleInteractionService;
+import com.editorialhouse.backend.service.article.CommentThreadService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.NoSuchElementException;
 
 @RestController
 @RequestMapping("/api/articles/{articleId}/interactions")
 public class ArticleInteractionController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final ArticleInteractionService interactionService;
+    private final CommentThreadService commentThreadService;
 
-    public ArticleInteractionController(ArticleInteractionService interactionService) {
+    public ArticleInteractionController(ArticleInteractionService interactionService, CommentThreadService commentThreadService) {
         this.interactionService = interactionService;
+        this.commentThreadService = commentThreadService;
     }
 
-    // All 4 roles can comment
+    // All 4 roles can comment; parentId makes the comment a reply
     @PreAuthorize("isAuthenticated()")
     @PostMapping("/comment")
-    public ResponseEntity<Comment> addComment(@PathVariable Long articleId, @RequestBody Comment comment) {
-        return new ResponseEntity<>(interactionService.addComment(articleId, comment), HttpStatus.CREATED);
+    public ResponseEntity<Comment> addComment(@PathVariable Long articleId, @RequestBody Comment comment,
+                                              @RequestParam(required = false) Long parentId) {
+        return new ResponseEntity<>(interactionService.addComment(articleId, comment, parentId), HttpStatus.CREATED);
+    }
+
+    // Public like the article itself; parentId expands the replies below one comment
+    @GetMapping("/comments")
+    public ResponseEntity<?> getComments(@PathVariable Long articleId,
+                                         @RequestParam(required = false) Long parentId,
+                                         @RequestParam(defaultValue = "3") int depth,
+                                         @RequestParam(required = false) String cursor,
+                                         @RequestParam(defaultValue = "50") int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.ok(commentThreadService.getThread(articleId, parentId, depth, cursor, size));
+        } catch (IllegalArgumentException e) {
+            // Depth out of range or a malformed cursor
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    // Comments the content filter held back, for the same reviewers as reports
+    @PreAuthorize("hasAuthority('REVIEW_REPORT_PRIVILEGE')")
+    @GetMapping("/comments/held")
+    public ResponseEntity<List<Comment>> getHeldComments(@PathVariable Long articleId) {
+        return ResponseEntity.ok(interactionService.getHeldComments(articleId));
+    }
+
+    @PreAuthorize("hasAuthority('REVIEW_REPORT_PRIVILEGE')")
+    @PostMapping("/comments/{commentId}/moderate")
+    public ResponseEntity<Comment> moderateComment(@PathVariable Long articleId, @PathVariable Long commentId, @RequestParam boolean approve) {
+        Comment comment = interactionService.moderateComment(articleId, commentId, approve);
+        return comment != null ? ResponseEntity.ok(comment) : ResponseEntity.noContent().build();
     }
 
     // All 4 roles can rate
@@ -51,7 +90,14 @@ public class ArticleInteractionController {
 
     @PreAuthorize("hasAuthority('REVIEW_REPORT_PRIVILEGE')")
     @PostMapping("/reports/{reportId}/review")
-    public ResponseEntity<Report> reviewReport(@PathVariable Long reportId, @RequestParam boolean actionTaken) {
-        return ResponseEntity.ok(interactionService.reviewReport(reportId, actionTaken));
+    public ResponseEntity<?> reviewReport(@PathVariable Long reportId, @RequestParam boolean actionTaken) {
+        try {
+            return ResponseEntity.ok(interactionService.reviewReport(reportId, actionTaken));
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalStateException e) {
+            // An archived report whose article is gone cannot be restored
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.CONFLICT);
+        }
     }
 }
@@ -0,0 +1,45 @@
+package com.editorialhouse.backend.controller;
+
+import com.editorialhouse.backend.dto.RankedArticle;
+import com.editorialhouse.backend.service.article.ArticleRankingService;
+import com.editorialhouse.backend.service.article.ArticleRankingService.Ranking;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/articles/rankings")
+public class ArticleRankingController {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final ArticleRankingService rankingService;
+
+    public ArticleRankingController(ArticleRankingService rankingService) {
+        this.rankingService = rankingService;
+    }
+
+    // Public endpoints: served from in-memory leaderboards, no database access
+    @GetMapping("/top-rated")
+    public ResponseEntity<List<RankedArticle>> getTopRated(@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "20") int size) {
+        return ranking(Ranking.TOP_RATED, page, size);
+    }
+
+    @GetMapping("/most-commented")
+    public ResponseEntity<List<RankedArticle>> getMostCommented(@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "20") int size) {
+        return ranking(Ranking.MOST_COMMENTED, page, size);
+    }
+
+    @GetMapping("/trending")
+    public ResponseEntity<List<RankedArticle>> getTrending(@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "20") int size) {
+        return ranking(Ranking.TRENDING, page, size);
+    }
+
+    private ResponseEntity<List<RankedArticle>> ranking(Ranking ranking, int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(rankingService.getRanking(ranking, page, size));
+    }
+}
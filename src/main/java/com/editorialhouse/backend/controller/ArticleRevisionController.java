@@ -0,0 +1,39 @@
+package com.editorialhouse.backend.controller;
+
+import com.editorialhouse.backend.dto.ArticleRevisionContent;
+import com.editorialhouse.backend.dto.DiffSegment;
+import com.editorialhouse.backend.repository.article.ArticleRevisionRepository;
+import com.editorialhouse.backend.service.article.ArticleRevisionService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/articles/{articleId}/revisions")
+@PreAuthorize("hasAuthority('WRITE_PRIVILEGE') or hasAuthority('APPROVE_ARTICLE_PRIVILEGE')") // Authors and reviewers
+public class ArticleRevisionController {
+
+    private final ArticleRevisionService revisionService;
+
+    public ArticleRevisionController(ArticleRevisionService revisionService) {
+        this.revisionService = revisionService;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<ArticleRevisionRepository.RevisionSummary>> getRevisions(@PathVariable Long articleId) {
+        return ResponseEntity.ok(revisionService.getRevisions(articleId));
+    }
+
+    @GetMapping("/{revisionNumber}")
+    public ResponseEntity<ArticleRevisionContent> getRevision(@PathVariable Long articleId, @PathVariable int revisionNumber) {
+        return ResponseEntity.ok(revisionService.getRevision(articleId, revisionNumber));
+    }
+
+    // e.g. GET /api/articles/7/revisions/diff?from=3&to=5
+    @GetMapping("/diff")
+    public ResponseEntity<List<DiffSegment>> diff(@PathVariable Long articleId, @RequestParam int from, @RequestParam int to) {
+        return ResponseEntity.ok(revisionService.diff(articleId, from, to));
+    }
+}
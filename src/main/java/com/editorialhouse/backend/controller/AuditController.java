@@ -0,0 +1,49 @@
+package com.editorialhouse.backend.controller;
+
+import com.editorialhouse.backend.dto.AuditEntry;
+import com.editorialhouse.backend.service.audit.AuditLog;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Instant;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/audit")
+@PreAuthorize("hasAuthority('MANAGE_USERS_PRIVILEGE')")
+public class AuditController {
+
+    private static final int MAX_LIMIT = 10_000;
+
+    private final AuditLog auditLog;
+
+    public AuditController(AuditLog auditLog) {
+        this.auditLog = auditLog;
+    }
+
+    // Records in a time range, oldest first, e.g. ?from=2024-01-01T00:00:00Z&to=2024-01-02T00:00:00Z
+    @GetMapping
+    public ResponseEntity<List<AuditEntry>> query(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+                                                  @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+                                                  @RequestParam(defaultValue = "1000") int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            return ResponseEntity.badRequest().build();
+        }
+        long end = to == null ? System.currentTimeMillis() : to.toEpochMilli();
+        return ResponseEntity.ok(auditLog.query(from.toEpochMilli(), end, limit));
+    }
+
+    // The most recent records
+    @GetMapping("/tail")
+    public ResponseEntity<List<AuditEntry>> tail(@RequestParam(defaultValue = "100") int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(auditLog.tail(limit));
+    }
+}
@@ -3,12 +3,16 @@ package com.editorialhouse.backend.controller;
 import com.editorialhouse.backend.model.User;
 import com.editorialhouse.backend.repository.UserRepository;
 import com.editorialhouse.backend.service.AuthService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.context.SecurityContextRepository;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
@@ -18,27 +22,47 @@ import java.util.Map;
 public class AuthController {
 
     private final AuthService authService;
+    private final SecurityContextRepository securityContextRepository;
 
-    public AuthController(AuthService authService) {
+    public AuthController(AuthService authService, SecurityContextRepository securityContextRepository) {
         this.authService = authService;
+        this.securityContextRepository = securityContextRepository;
     }
 
     @PostMapping("/login")
-    public ResponseEntity<?> authenticateUser(@RequestBody Map<String, String> loginRequest) {
+    public ResponseEntity<?> authenticateUser(@RequestBody Map<String, String> loginRequest, HttpServletRequest request, HttpServletResponse response) {
         try {
             authService.login(loginRequest.get("username"), loginRequest.get("password"));
-            return ResponseEntity.ok("User logged in successfully.");
         } catch (Exception e) {
             return new ResponseEntity<>("Invalid credentials", HttpStatus.UNAUTHORIZED);
         }
+        if (request.getSession(false) != null) {
+            request.changeSessionId(); // Session fixation protection
+        }
+        // Spring Security 6 no longer saves a programmatically set context, so without this the login is lost
+        securityContextRepository.saveContext(SecurityContextHolder.getContext(), request, response);
+        return ResponseEntity.ok("User logged in successfully.");
     }
 
     @PostMapping("/logout")
-    public ResponseEntity<?> logoutUser() {
+    public ResponseEntity<?> logoutUser(HttpServletRequest request) {
         authService.logout();
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            session.invalidate();
+        }
         return ResponseEntity.ok("User logged out successfully.");
     }
 
+    // Called while a sign-up form is being filled in; answered from memory for names nobody has
+    @GetMapping("/username-available")
+    public ResponseEntity<Map<String, Object>> isUsernameAvailable(@RequestParam String username) {
+        if (username.isBlank()) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(Map.of("username", username, "available", authService.isUsernameAvailable(username)));
+    }
+
     @PostMapping("/register")
     public ResponseEntity<?> registerUser(@RequestBody User user) {
         try {
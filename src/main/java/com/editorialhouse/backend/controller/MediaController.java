@@ -0,0 +1,224 @@
+package com.editorialhouse.backend.controller;
+
+import com.editorialhouse.backend.model.media.MediaAsset;
+import com.editorialhouse.backend.repository.UserRepository;
+import com.editorialhouse.backend.service.media.ImageDerivativeService;
+import com.editorialhouse.backend.service.media.MediaSignatures;
+import com.editorialhouse.backend.service.media.MediaStorageService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@RestController
+@RequestMapping("/api/media")
+public class MediaController {
+
+    // Tomcat's sendfile attributes: the connector copies the file to the socket without touching the heap
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final long DERIVATIVE_WAIT_SECONDS = 10;
+    // Browsers must render the declared type, never a type guessed from the content
+    private static final String NOSNIFF_HEADER = "X-Content-Type-Options";
+
+    private final MediaStorageService mediaStorageService;
+    private final ImageDerivativeService imageDerivativeService;
+    private final UserRepository userRepository;
+
+    public MediaController(MediaStorageService mediaStorageService, ImageDerivativeService imageDerivativeService, UserRepository userRepository) {
+        this.mediaStorageService = mediaStorageService;
+        this.imageDerivativeService = imageDerivativeService;
+        this.userRepository = userRepository;
+    }
+
+    // Clerk/Admin: Uploads article media as the raw request body (e.g. Content-Type: video/mp4)
+    @PreAuthorize("hasAuthority('WRITE_PRIVILEGE')")
+    @PostMapping
+    public ResponseEntity<?> upload(HttpServletRequest request, Authentication authentication) throws IOException {
+        Long uploaderId = userRepository.findByUsername(authentication.getName()).map(u -> u.getId()).orElse(null);
+        MediaAsset asset;
+        try {
+            asset = mediaStorageService.store(request.getInputStream(), request.getContentType(), uploaderId);
+        } catch (IllegalArgumentException e) {
+            // Not a supported format, or too large
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+        imageDerivativeService.pregenerate(asset);
+        return new ResponseEntity<>(asset, HttpStatus.CREATED);
+    }
+
+    // Public endpoint: media of published articles, with single-range support for audio/video seeking
+    @GetMapping("/{sha256}")
+    public void serve(@PathVariable String sha256, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        MediaAsset asset = mediaStorageService.findByHash(sha256).orElse(null);
+        if (asset == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        response.setHeader(NOSNIFF_HEADER, "nosniff");
+        if (!MediaSignatures.isInline(asset.getContentType())) {
+            // Served from our origin without authentication, so anything that could render script is a download
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment");
+        }
+        String etag = "\"" + asset.getSha256() + "\"";
+        response.setHeader(HttpHeaders.ETAG, etag);
+        // Content-addressed URLs never change meaning, so clients may cache them forever
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "public, max-age=31536000, immutable");
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (etag.equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long size = asset.getSize();
+        long start = 0;
+        long end = size - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (range != null) {
+            long[] bounds = parseRange(range, size);
+            if (bounds == null) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            if (bounds.length == 2) {
+                start = bounds[0];
+                end = bounds[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+            }
+        }
+
+        long length = end - start + 1;
+        response.setContentType(asset.getContentType());
+        response.setContentLengthLong(length);
+        if (length <= 0 || "HEAD".equals(request.getMethod())) {
+            return;
+        }
+
+        sendFile(mediaStorageService.resolve(asset), start, end, request, response);
+    }
+
+    // Public endpoint: resized image for feed cards and avatars, e.g. GET /api/media/{sha256}/w/320
+    @GetMapping("/{sha256}/w/{width}")
+    public void serveDerivative(@PathVariable String sha256, @PathVariable int width,
+                                HttpServletRequest request, HttpServletResponse response) throws IOException {
+        MediaAsset asset = mediaStorageService.findByHash(sha256).orElse(null);
+        if (asset == null || !ImageDerivativeService.isImage(asset)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        if (!ImageDerivativeService.isResizable(asset)) {
+            // No decoder for this format: the original is the only rendition
+            response.setStatus(HttpServletResponse.SC_TEMPORARY_REDIRECT);
+            response.setHeader(HttpHeaders.LOCATION, asset.getUrl());
+            return;
+        }
+
+        int snappedWidth = imageDerivativeService.snapWidth(width);
+        Path file;
+        try {
+            file = imageDerivativeService.getDerivative(asset, snappedWidth).get(DERIVATIVE_WAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (RejectedExecutionException | TimeoutException e) {
+            // Workers are saturated: the original still renders correctly, just heavier
+            response.setStatus(HttpServletResponse.SC_TEMPORARY_REDIRECT);
+            response.setHeader(HttpHeaders.LOCATION, asset.getUrl());
+            return;
+        } catch (ExecutionException e) {
+            response.sendError(HttpStatus.UNPROCESSABLE_ENTITY.value(), "Image could not be processed");
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            return;
+        }
+
+        response.setHeader(NOSNIFF_HEADER, "nosniff");
+        String etag = "\"" + asset.getSha256() + "-w" + snappedWidth + "\"";
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "public, max-age=31536000, immutable");
+        if (etag.equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        long size = Files.size(file);
+        response.setContentType(imageDerivativeService.contentType(asset));
+        response.setContentLengthLong(size);
+        if (size > 0 && !"HEAD".equals(request.getMethod())) {
+            sendFile(file, 0, size - 1, request, response);
+        }
+    }
+
+    private static void sendFile(Path file, long start, long end, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            while (position <= end) {
+                position += channel.transferTo(position, end + 1 - position, out);
+            }
+        }
+    }
+
+    /**
+     * Parses a "bytes=" Range header. Returns {start, end} for a satisfiable single range, an empty array
+     * when the header should be ignored (multiple ranges or another unit) and null when it is unsatisfiable.
+     */
+    private static long[] parseRange(String header, long size) {
+        if (!header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+            return new long[0];
+        }
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return new long[0];
+        }
+        try {
+            long start;
+            long end;
+            if (dash == 0) {
+                // Suffix range: the last N bytes
+                long suffix = Long.parseLong(spec.substring(1));
+                if (suffix <= 0) {
+                    return null;
+                }
+                start = Math.max(size - suffix, 0);
+                end = size - 1;
+            } else {
+                start = Long.parseLong(spec.substring(0, dash));
+                end = dash == spec.length() - 1 ? size - 1 : Math.min(Long.parseLong(spec.substring(dash + 1)), size - 1);
+            }
+            if (start >= size || start > end) {
+                return null;
+            }
+            return new long[]{start, end};
+        } catch (NumberFormatException e) {
+            return new long[0];
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.editorialhouse.backend.controller;
+
+import com.editorialhouse.backend.config.ratelimit.RateLimiter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/rate-limits")
+@PreAuthorize("hasAuthority('MANAGE_USERS_PRIVILEGE')")
+public class RateLimitController {
+
+    private final RateLimiter rateLimiter;
+
+    public RateLimitController(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    // Allowed/rejected request counts per policy since startup
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getMetrics() {
+        return ResponseEntity.ok(rateLimiter.getMetrics());
+    }
+}
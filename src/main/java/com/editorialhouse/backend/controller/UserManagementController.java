@@ -5,55 +5,63 @@ import com.editorialhouse.backend.model.Role;
 import com.editorialhouse.backend.model.User;
 import com.editorialhouse.backend.repository.PrivilegeRepository;
 import com.editorialhouse.backend.repository.RoleRepository;
-import com.editorialhouse.backend.repository.UserRepository;
+import com.editorialhouse.backend.service.UserDirectoryService;
+import com.editorialhouse.backend.service.UserManagementService;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/admin/users")
 @PreAuthorize("hasAuthority('MANAGE_USERS_PRIVILEGE')") // Only Admin can manage users by default
 public class UserManagementController {
 
-    private final UserRepository userRepository;
+    private static final int MAX_PAGE_SIZE = 200;
+
     private final RoleRepository roleRepository;
     private final PrivilegeRepository privilegeRepository;
+    private final UserDirectoryService userDirectoryService;
+    private final UserManagementService userManagementService;
 
-    public UserManagementController(UserRepository userRepository, RoleRepository roleRepository, PrivilegeRepository privilegeRepository) {
-        this.userRepository = userRepository;
+    public UserManagementController(RoleRepository roleRepository, PrivilegeRepository privilegeRepository, UserDirectoryService userDirectoryService, UserManagementService userManagementService) {
         this.roleRepository = roleRepository;
         this.privilegeRepository = privilegeRepository;
+        this.userDirectoryService = userDirectoryService;
+        this.userManagementService = userManagementService;
     }
 
+    // Pages of account summaries, optionally narrowed by a username/full name prefix, role, privilege and status
     @GetMapping
-    public ResponseEntity<List<User>> getAllUsers() {
-        return ResponseEntity.ok(userRepository.findAll());
+    public ResponseEntity<?> getUsers(@RequestParam(required = false) String q,
+                                      @RequestParam(required = false) String role,
+                                      @RequestParam(required = false) String privilege,
+                                      @RequestParam(required = false) Boolean enabled,
+                                      @RequestParam(required = false) String cursor,
+                                      @RequestParam(defaultValue = "50") int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.ok(userDirectoryService.list(q, role, privilege, enabled, cursor, size));
+        } catch (IllegalArgumentException e) {
+            // A malformed cursor
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
     }
 
     @PutMapping("/{userId}/roles")
     public ResponseEntity<User> updateRoles(@PathVariable Long userId, @RequestBody List<String> roleNames) {
-        User user = userRepository.findById(userId).orElseThrow(() -> new RuntimeException("User not found"));
-        Set<Role> newRoles = roleNames.stream()
-                .map(roleRepository::findByName)
-                .collect(Collectors.toSet());
-        user.setRoles(newRoles);
-        return ResponseEntity.ok(userRepository.save(user));
+        return ResponseEntity.ok(userManagementService.updateRoles(userId, roleNames));
     }
 
     // Admin can escalate or deescalate other user's privileges (GRANT_REVOKE_PRIVILEGE)
     @PreAuthorize("hasAuthority('GRANT_REVOKE_PRIVILEGE')")
     @PutMapping("/{userId}/privileges")
     public ResponseEntity<User> updateCustomPrivileges(@PathVariable Long userId, @RequestBody List<String> privilegeNames) {
-        User user = userRepository.findById(userId).orElseThrow(() -> new RuntimeException("User not found"));
-        Set<Privilege> newPrivileges = privilegeNames.stream()
-                .map(privilegeRepository::findByName)
-                .collect(Collectors.toSet());
-        user.setCustomPrivileges(newPrivileges);
-        return ResponseEntity.ok(userRepository.save(user));
+        return ResponseEntity.ok(userManagementService.updateCustomPrivileges(userId, privilegeNames));
     }
 
     @GetMapping("/privileges")
@@ -65,4 +73,18 @@ public class UserManagementController {
     public ResponseEntity<List<Role>> getAllRoles() {
         return ResponseEntity.ok(roleRepository.findAll());
     }
+
+    // Admin can change the default privileges of a role (GRANT_REVOKE_PRIVILEGE)
+    @PreAuthorize("hasAuthority('GRANT_REVOKE_PRIVILEGE')")
+    @PutMapping("/roles/{roleName}/privileges")
+    public ResponseEntity<Role> updateRolePrivileges(@PathVariable String roleName, @RequestBody List<String> privilegeNames) {
+        return ResponseEntity.ok(userManagementService.updateRolePrivileges(roleName, privilegeNames));
+    }
+
+    // For role/privilege changes made directly in the database
+    @PostMapping("/reference-data/evict")
+    public ResponseEntity<Void> evictReferenceData() {
+        userManagementService.evictReferenceData();
+        return ResponseEntity.noContent().build();
+    }
 }
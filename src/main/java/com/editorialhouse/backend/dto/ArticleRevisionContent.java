@@ -0,0 +1,4 @@
+package com.editorialhouse.backend.dto;
+
+public record ArticleRevisionContent(Long articleId, int revisionNumber, String title, String content) {
+}
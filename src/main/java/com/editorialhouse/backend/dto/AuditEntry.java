@@ -0,0 +1,8 @@
+package com.editorialhouse.backend.dto;
+
+import com.editorialhouse.backend.service.audit.AuditAction;
+
+import java.util.Date;
+
+public record AuditEntry(Date timestamp, AuditAction action, String actor, long targetId, String detail) {
+}
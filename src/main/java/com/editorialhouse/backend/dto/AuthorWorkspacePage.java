@@ -0,0 +1,14 @@
+package com.editorialhouse.backend.dto;
+
+import com.editorialhouse.backend.model.article.ArticleStatus;
+import com.editorialhouse.backend.repository.article.ArticleRepository.ArticleSummary;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One page of the current author's articles. {@code nextCursor} is null on the last page; {@code statusCounts}
+ * is only filled in on the first page.
+ */
+public record AuthorWorkspacePage(List<ArticleSummary> articles, String nextCursor, Map<ArticleStatus, Long> statusCounts) {
+}
@@ -0,0 +1,12 @@
+package com.editorialhouse.backend.dto;
+
+import com.editorialhouse.backend.repository.article.CommentRepository.ThreadComment;
+
+import java.util.List;
+
+/**
+ * One page of a comment thread in depth-first order, each reply directly after its parent.
+ * {@code nextCursor} is null on the last page.
+ */
+public record CommentThreadPage(List<ThreadComment> comments, String nextCursor) {
+}
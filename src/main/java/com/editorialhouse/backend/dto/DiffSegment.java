@@ -0,0 +1,10 @@
+package com.editorialhouse.backend.dto;
+
+public record DiffSegment(Type type, String text) {
+
+    public enum Type {
+        EQUAL,
+        INSERT,
+        DELETE
+    }
+}
@@ -0,0 +1,4 @@
+package com.editorialhouse.backend.dto;
+
+public record RankedArticle(Long articleId, String title, double score, double averageRating, long ratingCount, long commentCount) {
+}
@@ -0,0 +1,8 @@
+package com.editorialhouse.backend.dto;
+
+/**
+ * A published article similar to the one asked about; {@code similarity} estimates the Jaccard similarity of their
+ * word shingles, between 0 and 1.
+ */
+public record RelatedArticle(Long articleId, String title, double similarity) {
+}
@@ -0,0 +1,9 @@
+package com.editorialhouse.backend.dto;
+
+import java.util.List;
+
+/**
+ * One page of the user administration listing. {@code nextCursor} is null on the last page.
+ */
+public record UserDirectoryPage(List<UserSummary> users, String nextCursor) {
+}
@@ -0,0 +1,9 @@
+package com.editorialhouse.backend.dto;
+
+import java.util.List;
+
+/**
+ * What the user administration lists show of an account: no password hash, no resolved privilege graph.
+ */
+public record UserSummary(Long id, String username, String fullName, boolean enabled, List<String> roles, List<String> customPrivileges) {
+}
@@ -0,0 +1,4 @@
+package com.editorialhouse.backend.event;
+
+public record ArticleCommentedEvent(Long articleId, Long commentId, long timestamp) {
+}
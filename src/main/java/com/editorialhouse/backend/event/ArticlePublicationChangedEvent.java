@@ -0,0 +1,7 @@
+package com.editorialhouse.backend.event;
+
+/**
+ * Published when an article enters or leaves the public feed.
+ */
+public record ArticlePublicationChangedEvent(Long articleId, String title, boolean published) {
+}
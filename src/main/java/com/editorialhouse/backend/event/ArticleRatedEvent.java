@@ -0,0 +1,7 @@
+package com.editorialhouse.backend.event;
+
+/**
+ * Published when a user rates an article. {@code previousScore} is set when an existing rating was changed.
+ */
+public record ArticleRatedEvent(Long articleId, int score, Integer previousScore, long timestamp) {
+}
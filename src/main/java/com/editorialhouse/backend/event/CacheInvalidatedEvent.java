@@ -0,0 +1,12 @@
+package com.editorialhouse.backend.event;
+
+import com.editorialhouse.backend.model.cache.CacheRegion;
+
+import java.util.Set;
+
+/**
+ * Entities changed by another node; published by the cache invalidation bus once per region and poll, inside a
+ * read-write transaction so that listeners reload from the primary.
+ */
+public record CacheInvalidatedEvent(CacheRegion region, Set<Long> keys) {
+}
@@ -0,0 +1,4 @@
+package com.editorialhouse.backend.event;
+
+public record UserChangedEvent(Long userId) {
+}
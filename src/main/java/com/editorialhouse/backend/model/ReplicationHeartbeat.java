@@ -0,0 +1,21 @@
+package com.editorialhouse.backend.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+@Entity
+@Data
+@NoArgsConstructor
+@Table(name = "replication_heartbeat")
+public class ReplicationHeartbeat {
+
+    // Single row written on the primary and read back from replicas to measure replication lag
+    @Id
+    private Long id;
+
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date beatTime;
+}
@@ -5,10 +5,14 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.Collection;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE) // Reference data, seeded once and rarely edited
 @Data
 @NoArgsConstructor
 @RequiredArgsConstructor
@@ -22,6 +26,7 @@ public class Role {
     @Column(unique = true, nullable = false)
     private String name; // e.g., ADMIN, SUPERVISOR, CLERK, USER
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @ManyToMany(fetch = FetchType.EAGER)
     @JoinTable(
             name = "roles_privileges",
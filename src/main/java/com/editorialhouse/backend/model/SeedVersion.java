@@ -0,0 +1,25 @@
+package com.editorialhouse.backend.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "seed_version")
+public class SeedVersion {
+
+    // Single row recording which version of the reference data and seed users the database holds
+    @Id
+    private Long id;
+
+    private int version;
+
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date appliedDate;
+}
@@ -1,10 +1,13 @@
 package com.editorialhouse.backend.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.Collection;
 import java.util.Date;
@@ -24,7 +27,9 @@ public class User {
     @Column(unique = true, nullable = false)
     private String username;
 
+    // Bound from sign-up requests, never written into a response
     @NonNull
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
     private String password;
 
     @NonNull
@@ -37,8 +42,11 @@ public class User {
     private String profilePictureUrl; // URL to the profile picture
 
     @NonNull
+    @JsonIgnore
     private Date sessionExpirationDate; // For the 7-day session requirement
 
+    // Loaded for up to 100 users per query when a list of articles brings in several authors
+    @BatchSize(size = 100)
     @ManyToMany(fetch = FetchType.EAGER)
     @JoinTable(
             name = "users_roles",
@@ -49,6 +57,7 @@ public class User {
     private Collection<Role> roles;
 
     // Flexible Privileges: Granular permissions that override or extend default role-based access
+    @BatchSize(size = 100)
     @ManyToMany(fetch = FetchType.EAGER)
     @JoinTable(
             name = "users_custom_privileges",
@@ -0,0 +1,51 @@
+package com.editorialhouse.backend.model.archive;
+
+import com.editorialhouse.backend.model.article.ArticleStatus;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+/**
+ * Cold copy of an {@code article} row, keeping its id. Rows are written and moved back by {@code ArchiveService}
+ * with set-based SQL; this mapping defines the table.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@Table(name = "article_archive", indexes = @Index(name = "idx_article_archive_author", columnList = "author_id"))
+public class ArchivedArticle {
+
+    @Id
+    private Long id;
+
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String content;
+
+    @Column(name = "author_id", nullable = false)
+    private Long authorId;
+
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date creationDate;
+
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date lastModifiedDate;
+
+    @Enumerated(EnumType.STRING)
+    private ArticleStatus status;
+
+    @Column(columnDefinition = "TEXT")
+    private String rejectionReason;
+
+    private boolean published;
+
+    private String imageUrl;
+    private String audioUrl;
+    private String videoUrl;
+
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date archivedDate;
+}
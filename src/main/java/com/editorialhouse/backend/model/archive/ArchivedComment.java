@@ -0,0 +1,49 @@
+package com.editorialhouse.backend.model.archive;
+
+import com.editorialhouse.backend.model.article.Comment;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+/**
+ * Cold copy of a {@code comment} row, archived together with its article.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@Table(name = "comment_archive", indexes = @Index(name = "idx_comment_archive_article", columnList = "article_id"))
+public class ArchivedComment {
+
+    @Id
+    private Long id;
+
+    @Column(name = "article_id", nullable = false)
+    private Long articleId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(columnDefinition = "TEXT")
+    private String content;
+
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date creationDate;
+
+    private boolean isModerated;
+
+    private boolean held;
+
+    private Long parentId;
+
+    @Column(length = Comment.MAX_PATH_LENGTH)
+    private String path;
+
+    private int depth;
+
+    private int replyCount;
+
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date archivedDate;
+}
@@ -0,0 +1,34 @@
+package com.editorialhouse.backend.model.archive;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+/**
+ * Cold copy of a {@code rating} row, archived together with its article.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@Table(name = "rating_archive", indexes = @Index(name = "idx_rating_archive_article", columnList = "article_id"))
+public class ArchivedRating {
+
+    @Id
+    private Long id;
+
+    @Column(name = "article_id", nullable = false)
+    private Long articleId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    private Integer score;
+
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date ratingDate;
+
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date archivedDate;
+}
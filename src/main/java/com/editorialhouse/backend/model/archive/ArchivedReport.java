@@ -0,0 +1,39 @@
+package com.editorialhouse.backend.model.archive;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+/**
+ * Cold copy of a {@code report} row: a reviewed report past the retention age, or any report of an archived article.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@Table(name = "report_archive", indexes = @Index(name = "idx_report_archive_article", columnList = "article_id"))
+public class ArchivedReport {
+
+    @Id
+    private Long id;
+
+    @Column(name = "article_id", nullable = false)
+    private Long articleId;
+
+    @Column(name = "reporter_id", nullable = false)
+    private Long reporterId;
+
+    @Column(columnDefinition = "TEXT")
+    private String reason;
+
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date reportDate;
+
+    private boolean reviewed;
+    private boolean actionTaken;
+    private boolean flagged;
+
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date archivedDate;
+}
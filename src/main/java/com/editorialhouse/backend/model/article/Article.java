@@ -1,6 +1,7 @@
 package com.editorialhouse.backend.model.article;
 
 import com.editorialhouse.backend.model.User;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -13,6 +14,11 @@ import java.util.Date;
 @Data
 @NoArgsConstructor
 @RequiredArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_article_author_status_modified", columnList = "author_id, status, last_modified_date, id"),
+        @Index(name = "idx_article_author_modified", columnList = "author_id, last_modified_date, id"),
+        @Index(name = "idx_article_status_modified", columnList = "status, last_modified_date")
+})
 public class Article {
 
     @Id
@@ -26,8 +32,10 @@ public class Article {
     @Column(columnDefinition = "TEXT")
     private String content;
 
+    // Articles are public: the author appears by name and profile, without their access rights
     @ManyToOne
     @JoinColumn(name = "author_id", nullable = false)
+    @JsonIgnoreProperties({"roles", "customPrivileges", "enabled"})
     private User author;
 
     @Temporal(TemporalType.TIMESTAMP)
@@ -48,4 +56,8 @@ public class Article {
     private String imageUrl;
     private String audioUrl;
     private String videoUrl;
+
+    // Filled in from ArticleViewCounter on the published read paths; counted outside the article row
+    @Transient
+    private long viewCount;
 }
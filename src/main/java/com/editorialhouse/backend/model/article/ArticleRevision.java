@@ -0,0 +1,41 @@
+package com.editorialhouse.backend.model.article;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+@Entity
+@Data
+@NoArgsConstructor
+@Table(name = "article_revision",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_article_revision_number", columnNames = {"article_id", "revision_number"}))
+public class ArticleRevision {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "article_id", nullable = false)
+    private Long articleId;
+
+    @Column(name = "revision_number", nullable = false)
+    private Integer revisionNumber;
+
+    // Snapshots hold the full UTF-8 content, other revisions a TextDelta against the previous one
+    private boolean snapshot;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Lob
+    @Column(nullable = false, columnDefinition = "LONGBLOB")
+    private byte[] payload;
+
+    private Long editorId;
+
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date creationDate = new Date();
+}
@@ -0,0 +1,22 @@
+package com.editorialhouse.backend.model.article;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Data
+@NoArgsConstructor
+@Table(name = "article_view_count")
+public class ArticleViewCount {
+
+    // Kept apart from the article row so that counting views never locks or rewrites the article itself
+    @Id
+    @Column(name = "article_id")
+    private Long articleId;
+
+    private long views;
+}
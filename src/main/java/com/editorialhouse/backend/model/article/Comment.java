@@ -13,8 +13,13 @@ import java.util.Date;
 @Data
 @NoArgsConstructor
 @RequiredArgsConstructor
+@Table(indexes = @Index(name = "idx_comment_article_path", columnList = "article_id, path"))
 public class Comment {
 
+    // Each level of a path is the comment's id as a fixed-width decimal segment
+    public static final int PATH_SEGMENT_LENGTH = 12;
+    public static final int MAX_PATH_LENGTH = 192; // Room for 16 levels
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -34,5 +39,23 @@ public class Comment {
     @Temporal(TemporalType.TIMESTAMP)
     private Date creationDate = new Date();
 
+    // Set when the content filter matched the comment
     private boolean isModerated = false;
+
+    // Hidden and left out of comment counts until a moderator releases it
+    private boolean held = false;
+
+    // The comment replied to; null for a top-level comment
+    private Long parentId;
+
+    // The parent's path followed by this comment's segment, so ordering by path lists a thread depth-first and a
+    // subtree is one prefix range of idx_comment_article_path
+    @Column(length = MAX_PATH_LENGTH)
+    private String path;
+
+    // 0 for a top-level comment
+    private int depth = 0;
+
+    // Visible direct replies, so a client knows which collapsed branches can be expanded
+    private int replyCount = 0;
 }
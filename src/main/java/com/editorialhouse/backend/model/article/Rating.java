@@ -7,10 +7,13 @@ import lombok.NoArgsConstructor;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 
+import java.util.Date;
+
 @Entity
 @Data
 @NoArgsConstructor
 @RequiredArgsConstructor
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_rating_article_user", columnNames = {"article_id", "user_id"}))
 public class Rating {
 
     @Id
@@ -27,4 +30,7 @@ public class Rating {
 
     @NonNull
     private Integer score; // 1 to 5 stars
+
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date ratingDate = new Date();
 }
@@ -13,6 +13,7 @@ import java.util.Date;
 @Data
 @NoArgsConstructor
 @RequiredArgsConstructor
+@Table(indexes = @Index(name = "idx_report_reviewed_date", columnList = "reviewed, report_date"))
 public class Report {
 
     @Id
@@ -36,4 +37,7 @@ public class Report {
 
     private boolean reviewed = false;
     private boolean actionTaken = false;
+
+    // The reason matched the content filter, such reports are reviewed first
+    private boolean flagged = false;
 }
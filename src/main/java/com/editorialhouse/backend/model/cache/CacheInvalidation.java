@@ -0,0 +1,40 @@
+package com.editorialhouse.backend.model.cache;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+/**
+ * One row of the cache invalidation change log, written in the same transaction as the change it announces
+ * and read by every node in id order. Rows are pruned after the retention period.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@Table(indexes = @Index(name = "idx_cache_invalidation_created", columnList = "created_at"))
+public class CacheInvalidation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private CacheRegion region;
+
+    private Long entityId;
+
+    private long originNode; // The node that made the change has already updated its own caches
+
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(nullable = false)
+    private Date createdAt = new Date();
+
+    public CacheInvalidation(CacheRegion region, Long entityId, long originNode) {
+        this.region = region;
+        this.entityId = entityId;
+        this.originNode = originNode;
+    }
+}
@@ -0,0 +1,11 @@
+package com.editorialhouse.backend.model.cache;
+
+/**
+ * What an invalidation record refers to; the key of a record is the id of the changed entity.
+ */
+public enum CacheRegion {
+    ARTICLE,        // published or unpublished; key = article id
+    ARTICLE_STATS,  // rated or commented; key = article id
+    USER,           // account, roles or custom privileges changed; key = user id
+    REFERENCE_DATA  // role privileges changed; key = role id, or null for all roles
+}
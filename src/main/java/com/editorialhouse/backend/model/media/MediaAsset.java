@@ -0,0 +1,40 @@
+package com.editorialhouse.backend.model.media;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+@Entity
+@Data
+@NoArgsConstructor
+public class MediaAsset {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Hex SHA-256 of the content; identical uploads share one stored file
+    @Column(unique = true, nullable = false, length = 64)
+    private String sha256;
+
+    @Column(nullable = false)
+    private String contentType;
+
+    private long size;
+
+    @JsonIgnore
+    @Column(nullable = false)
+    private String storagePath; // Relative to media.storage.root
+
+    private Long uploaderId;
+
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date creationDate = new Date();
+
+    public String getUrl() {
+        return "/api/media/" + sha256;
+    }
+}
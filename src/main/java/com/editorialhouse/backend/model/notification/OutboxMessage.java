@@ -0,0 +1,51 @@
+package com.editorialhouse.backend.model.notification;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+/**
+ * A notification written in the same transaction as the workflow change it announces, and delivered later
+ * by the outbox dispatcher. Delivered messages are deleted; messages that keep failing are parked as FAILED.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@Table(indexes = @Index(name = "idx_outbox_status_available", columnList = "status, available_at, id"))
+public class OutboxMessage {
+
+    public enum Status {
+        PENDING,
+        FAILED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 64)
+    private String type; // e.g. ARTICLE_REJECTED
+
+    private Long recipientId;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload; // JSON
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Status status = Status.PENDING;
+
+    private int attempts;
+
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(nullable = false)
+    private Date availableAt = new Date(); // Not picked up before this time (retry backoff)
+
+    @Column(columnDefinition = "TEXT")
+    private String lastError;
+
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date creationDate = new Date();
+}
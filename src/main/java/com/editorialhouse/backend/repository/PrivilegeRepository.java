@@ -1,8 +1,18 @@
 package com.editorialhouse.backend.repository;
 
 import com.editorialhouse.backend.model.Privilege;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
 
 public interface PrivilegeRepository extends JpaRepository<Privilege, Long> {
+
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     Privilege findByName(String name);
+
+    @Override
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
+    List<Privilege> findAll();
 }
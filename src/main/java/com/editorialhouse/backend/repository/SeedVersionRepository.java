@@ -0,0 +1,7 @@
+package com.editorialhouse.backend.repository;
+
+import com.editorialhouse.backend.model.SeedVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface SeedVersionRepository extends JpaRepository<SeedVersion, Long> {
+}
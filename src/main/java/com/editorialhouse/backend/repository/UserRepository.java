@@ -1,10 +1,66 @@
 package com.editorialhouse.backend.repository;
 
 import com.editorialhouse.backend.model.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
+
+    interface UserRow {
+        Long getId();
+        String getUsername();
+        String getFullName();
+        Boolean getEnabled();
+    }
+
+    interface UsernameRow {
+        Long getId();
+        String getUsername();
+    }
+
+    interface SessionExpiry {
+        String getUsername();
+        Date getSessionExpirationDate();
+    }
+
+    interface UserAuthorityName {
+        Long getUserId();
+        String getName();
+    }
+
     Optional<User> findByUsername(String username);
+
+    boolean existsByUsername(String username);
+
+    // Session expiry: targeted reads and writes, so logins and expiry checks never load or save a whole User
+    @Query("select u.username as username, u.sessionExpirationDate as sessionExpirationDate from User u where u.username in :usernames")
+    List<SessionExpiry> findSessionExpiries(@Param("usernames") Collection<String> usernames);
+
+    @Modifying
+    @Query("update User u set u.sessionExpirationDate = :expiresAt where u.username = :username")
+    int updateSessionExpirationDate(@Param("username") String username, @Param("expiresAt") Date expiresAt);
+
+    @Query("select u.id as id, u.username as username from User u where u.id > :afterId order by u.id")
+    List<UsernameRow> findUsernamesAfter(@Param("afterId") long afterId, Pageable pageable);
+
+    @Query("select u.id as id, u.username as username from User u where u.id in :ids")
+    List<UsernameRow> findUsernamesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Scalar loads for the user directory, so a full rebuild does not materialize every User with its eager collections
+    @Query("select u.id as id, u.username as username, u.fullName as fullName, u.enabled as enabled from User u")
+    List<UserRow> findAllRows();
+
+    @Query("select u.id as userId, r.name as name from User u join u.roles r")
+    List<UserAuthorityName> findAllRoleNames();
+
+    @Query("select u.id as userId, p.name as name from User u join u.customPrivileges p")
+    List<UserAuthorityName> findAllCustomPrivilegeNames();
 }
@@ -1,11 +1,117 @@
 package com.editorialhouse.backend.repository.article;
 
 import com.editorialhouse.backend.model.article.Article;
+import com.editorialhouse.backend.model.article.ArticleStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 
 public interface ArticleRepository extends JpaRepository<Article, Long> {
+
+    interface ArticleTitle {
+        Long getId();
+        String getTitle();
+    }
+
+    interface ArticleText {
+        Long getId();
+        String getTitle();
+        String getContent();
+    }
+
+    interface ArticleSummary {
+        Long getId();
+        String getTitle();
+        ArticleStatus getStatus();
+        boolean isPublished();
+        Date getCreationDate();
+        Date getLastModifiedDate();
+        String getRejectionReason();
+    }
+
+    interface StatusCount {
+        ArticleStatus getStatus();
+        long getCount();
+    }
+
     List<Article> findByPublishedTrue();
     List<Article> findByAuthorId(Long authorId);
+
+    // Batch reads: one IN query, with the author joined into the same statement
+    @EntityGraph(attributePaths = "author")
+    List<Article> findByIdInAndPublishedTrue(Collection<Long> ids);
+
+    @Query("select a.id as id, a.title as title from Article a where a.published = true")
+    List<ArticleTitle> findPublishedTitles();
+
+    @Query("select a.id as id, a.title as title from Article a where a.id = :id and a.published = true")
+    Optional<ArticleTitle> findPublishedTitle(@Param("id") Long id);
+
+    long countByPublishedTrue();
+
+    // The author's name alone, for access checks that need no entity
+    @Query("select a.author.username from Article a where a.id = :id")
+    Optional<String> findAuthorUsername(@Param("id") Long id);
+
+    // Keyset pages by id, for rebuilding the related-articles index without loading entities
+    @Query("select a.id as id, a.title as title, a.content as content from Article a where a.published = true and a.id > :afterId order by a.id")
+    List<ArticleText> findPublishedTextPage(@Param("afterId") long afterId, Pageable limit);
+
+    @Query("select a.id as id, a.title as title, a.content as content from Article a where a.id = :id and a.published = true")
+    Optional<ArticleText> findPublishedText(@Param("id") Long id);
+
+    // Archival candidates of one status in (status, last_modified_date) index order, so the scan and its locks stop
+    // after the limit instead of covering the whole backlog for a sort; SKIP LOCKED (lock timeout -2)
+    // keeps two nodes from archiving the same rows and leaves rows an author is editing for the next run
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select a.id from Article a where a.status = :status and a.published = false and a.lastModifiedDate < :before " +
+            "order by a.lastModifiedDate, a.id")
+    List<Long> lockArchivableIds(@Param("status") ArticleStatus status, @Param("before") Date before, Pageable limit);
+
+    // Author workspace: keyset pages newest-modified first, continuing strictly after (lastModified, id).
+    // Served by the (author_id, status, last_modified_date, id) and (author_id, last_modified_date, id) indexes.
+    @Query("select a.id as id, a.title as title, a.status as status, a.published as published, a.creationDate as creationDate, " +
+            "a.lastModifiedDate as lastModifiedDate, a.rejectionReason as rejectionReason from Article a " +
+            "where a.author.id = :authorId and a.status = :status " +
+            "and (a.lastModifiedDate < :lastModified or (a.lastModifiedDate = :lastModified and a.id < :id)) " +
+            "order by a.lastModifiedDate desc, a.id desc")
+    List<ArticleSummary> findAuthorPageByStatus(@Param("authorId") Long authorId, @Param("status") ArticleStatus status,
+                                                @Param("lastModified") Date lastModified, @Param("id") Long id, Pageable limit);
+
+    @Query("select a.id as id, a.title as title, a.status as status, a.published as published, a.creationDate as creationDate, " +
+            "a.lastModifiedDate as lastModifiedDate, a.rejectionReason as rejectionReason from Article a " +
+            "where a.author.id = :authorId " +
+            "and (a.lastModifiedDate < :lastModified or (a.lastModifiedDate = :lastModified and a.id < :id)) " +
+            "order by a.lastModifiedDate desc, a.id desc")
+    List<ArticleSummary> findAuthorPage(@Param("authorId") Long authorId,
+                                        @Param("lastModified") Date lastModified, @Param("id") Long id, Pageable limit);
+
+    // First pages: no lower bound, as no date sentinel fits every database's DATETIME range
+    @Query("select a.id as id, a.title as title, a.status as status, a.published as published, a.creationDate as creationDate, " +
+            "a.lastModifiedDate as lastModifiedDate, a.rejectionReason as rejectionReason from Article a " +
+            "where a.author.id = :authorId and a.status = :status " +
+            "order by a.lastModifiedDate desc, a.id desc")
+    List<ArticleSummary> findAuthorFirstPageByStatus(@Param("authorId") Long authorId, @Param("status") ArticleStatus status,
+                                                     Pageable limit);
+
+    @Query("select a.id as id, a.title as title, a.status as status, a.published as published, a.creationDate as creationDate, " +
+            "a.lastModifiedDate as lastModifiedDate, a.rejectionReason as rejectionReason from Article a " +
+            "where a.author.id = :authorId " +
+            "order by a.lastModifiedDate desc, a.id desc")
+    List<ArticleSummary> findAuthorFirstPage(@Param("authorId") Long authorId, Pageable limit);
+
+    @Query("select a.status as status, count(a) as count from Article a where a.author.id = :authorId group by a.status")
+    List<StatusCount> countByAuthorGroupedByStatus(@Param("authorId") Long authorId);
 }
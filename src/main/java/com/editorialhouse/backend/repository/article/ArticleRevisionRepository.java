@@ -0,0 +1,38 @@
+package com.editorialhouse.backend.repository.article;
+
+import com.editorialhouse.backend.model.article.ArticleRevision;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Date;
+import java.util.List;
+
+public interface ArticleRevisionRepository extends JpaRepository<ArticleRevision, Long> {
+
+    // Metadata only, so listing a long history never loads the payloads
+    interface RevisionSummary {
+        Integer getRevisionNumber();
+        boolean isSnapshot();
+        String getTitle();
+        Long getEditorId();
+        Date getCreationDate();
+    }
+
+    List<RevisionSummary> findByArticleIdOrderByRevisionNumberDesc(Long articleId);
+
+    @Query("select max(r.revisionNumber) from ArticleRevision r where r.articleId = :articleId")
+    Integer findLatestRevisionNumber(@Param("articleId") Long articleId);
+
+    @Query("select max(r.revisionNumber) from ArticleRevision r " +
+            "where r.articleId = :articleId and r.snapshot = true and r.revisionNumber <= :revisionNumber")
+    Integer findBaseSnapshotNumber(@Param("articleId") Long articleId, @Param("revisionNumber") Integer revisionNumber);
+
+    List<ArticleRevision> findByArticleIdAndRevisionNumberBetweenOrderByRevisionNumberAsc(
+            Long articleId, Integer fromRevision, Integer toRevision);
+
+    @Modifying
+    @Query("delete from ArticleRevision r where r.articleId = :articleId")
+    void deleteByArticleId(@Param("articleId") Long articleId);
+}
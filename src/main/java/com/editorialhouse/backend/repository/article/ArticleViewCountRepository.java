@@ -0,0 +1,7 @@
+package com.editorialhouse.backend.repository.article;
+
+import com.editorialhouse.backend.model.article.ArticleViewCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ArticleViewCountRepository extends JpaRepository<ArticleViewCount, Long>, ArticleViewCountRepositoryCustom {
+}
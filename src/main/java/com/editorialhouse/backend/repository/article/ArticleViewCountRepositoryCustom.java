@@ -0,0 +1,11 @@
+package com.editorialhouse.backend.repository.article;
+
+import java.util.Map;
+
+public interface ArticleViewCountRepositoryCustom {
+
+    /**
+     * Adds the given view deltas to the counters in one batched upsert.
+     */
+    void incrementAll(Map<Long, Long> deltas);
+}
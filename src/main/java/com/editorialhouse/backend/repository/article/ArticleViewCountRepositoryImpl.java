@@ -0,0 +1,60 @@
+package com.editorialhouse.backend.repository.article;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+class ArticleViewCountRepositoryImpl implements ArticleViewCountRepositoryCustom {
+
+    private static final String MYSQL_UPSERT =
+            "INSERT INTO article_view_count (article_id, views) VALUES (?, ?) " +
+            "ON DUPLICATE KEY UPDATE views = views + VALUES(views)";
+
+    private static final String UPDATE = "UPDATE article_view_count SET views = views + ? WHERE article_id = ?";
+    private static final String INSERT = "INSERT INTO article_view_count (article_id, views) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Boolean mysql;
+
+    ArticleViewCountRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional // The portable path is two statements
+    public void incrementAll(Map<Long, Long> deltas) {
+        List<Object[]> batch = new ArrayList<>(deltas.size());
+        if (isMysql()) {
+            deltas.forEach((articleId, delta) -> batch.add(new Object[]{articleId, delta}));
+            // With rewriteBatchedStatements=true Connector/J sends this as one multi-row statement
+            jdbcTemplate.batchUpdate(MYSQL_UPSERT, batch);
+            return;
+        }
+        // Databases without ON DUPLICATE KEY UPDATE (e.g. the embedded test database): update, then insert the misses.
+        // A concurrent first insert from another node fails the flush, which the caller retries.
+        List<Long> articleIds = new ArrayList<>(deltas.keySet());
+        articleIds.forEach(articleId -> batch.add(new Object[]{deltas.get(articleId), articleId}));
+        int[] updated = jdbcTemplate.batchUpdate(UPDATE, batch);
+        List<Object[]> inserts = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                inserts.add(new Object[]{articleIds.get(i), deltas.get(articleIds.get(i))});
+            }
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT, inserts);
+        }
+    }
+
+    private boolean isMysql() {
+        if (mysql == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            mysql = "MySQL".equalsIgnoreCase(product);
+        }
+        return mysql;
+    }
+}
@@ -1,7 +1,68 @@
 package com.editorialhouse.backend.repository.article;
 
 import com.editorialhouse.backend.model.article.Comment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Date;
+import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
+
+    interface CommentAggregate {
+        Long getArticleId();
+        Long getCommentCount();
+    }
+
+    interface CommentTime {
+        Long getArticleId();
+        Date getCreationDate();
+    }
+
+    interface ThreadComment {
+        Long getId();
+        Long getParentId();
+        int getDepth();
+        String getPath();
+        String getUsername();
+        String getContent();
+        Date getCreationDate();
+        int getReplyCount();
+    }
+
+    long countByArticleIdAndHeldFalse(Long articleId);
+
+    List<Comment> findByArticleIdAndHeldTrueOrderByCreationDateAsc(Long articleId);
+
+    @Query("select c.article.id as articleId, count(c) as commentCount " +
+            "from Comment c where c.held = false and c.article.published = true group by c.article.id")
+    List<CommentAggregate> findPublishedAggregates();
+
+    @Query("select c.article.id as articleId, c.creationDate as creationDate from Comment c " +
+            "where c.creationDate >= :since and c.held = false and c.article.published = true")
+    List<CommentTime> findPublishedCommentTimesSince(@Param("since") Date since);
+
+    @Query("select c.creationDate from Comment c where c.article.id = :articleId and c.creationDate >= :since and c.held = false")
+    List<Date> findCommentDatesSince(@Param("articleId") Long articleId, @Param("since") Date since);
+
+    // One range scan of idx_comment_article_path: the prefix selects the subtree, the path after the cursor the page
+    @Query("select c.id as id, c.parentId as parentId, c.depth as depth, c.path as path, c.user.username as username, " +
+            "c.content as content, c.creationDate as creationDate, c.replyCount as replyCount from Comment c " +
+            "where c.article.id = :articleId and c.path like :prefix and c.path > :after and c.depth <= :maxDepth " +
+            "and c.held = false order by c.path")
+    List<ThreadComment> findThreadPage(@Param("articleId") Long articleId, @Param("prefix") String prefix, @Param("after") String after,
+                                       @Param("maxDepth") int maxDepth, Pageable pageable);
+
+    @Modifying
+    @Query("update Comment c set c.replyCount = c.replyCount + 1 where c.id = :id")
+    int incrementReplyCount(@Param("id") Long id);
+
+    // Comments written before threading become top-level comments; LIMIT keeps each statement's locks short
+    @Modifying
+    @Query(value = "UPDATE comment SET path = LPAD(CONCAT('', id), 12, '0'), depth = 0, reply_count = 0 WHERE path IS NULL LIMIT :limit",
+            nativeQuery = true)
+    int backfillPaths(@Param("limit") int limit);
 }
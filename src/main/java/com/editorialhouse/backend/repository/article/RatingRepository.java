@@ -2,9 +2,40 @@ package com.editorialhouse.backend.repository.article;
 
 import com.editorialhouse.backend.model.article.Rating;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 
-public interface RatingRepository extends JpaRepository<Rating, Long> {
+public interface RatingRepository extends JpaRepository<Rating, Long>, RatingRepositoryCustom {
+
+    interface RatingAggregate {
+        Long getArticleId();
+        Long getScoreSum();
+        Long getRatingCount();
+    }
+
+    interface RatingTime {
+        Long getArticleId();
+        Date getRatingDate();
+    }
+
     Optional<Rating> findByArticleIdAndUserId(Long articleId, Long userId);
+
+    @Query("select r.article.id as articleId, sum(r.score) as scoreSum, count(r) as ratingCount " +
+            "from Rating r where r.article.published = true group by r.article.id")
+    List<RatingAggregate> findPublishedAggregates();
+
+    @Query("select r.article.id as articleId, sum(r.score) as scoreSum, count(r) as ratingCount " +
+            "from Rating r where r.article.id = :articleId group by r.article.id")
+    Optional<RatingAggregate> findAggregate(@Param("articleId") Long articleId);
+
+    @Query("select r.article.id as articleId, r.ratingDate as ratingDate from Rating r " +
+            "where r.ratingDate >= :since and r.article.published = true")
+    List<RatingTime> findPublishedRatingTimesSince(@Param("since") Date since);
+
+    @Query("select r.ratingDate from Rating r where r.article.id = :articleId and r.ratingDate >= :since")
+    List<Date> findRatingDatesSince(@Param("articleId") Long articleId, @Param("since") Date since);
 }
@@ -0,0 +1,16 @@
+package com.editorialhouse.backend.repository.article;
+
+public interface RatingRepositoryCustom {
+
+    /**
+     * Result of a rating upsert. {@code previousScore} is null when a new rating was inserted.
+     */
+    record RatingUpsert(long ratingId, Integer previousScore) {
+    }
+
+    /**
+     * Inserts the user's rating of an article, or replaces the score if the user already rated it,
+     * relying on the unique (article_id, user_id) index rather than a prior lookup.
+     */
+    RatingUpsert upsert(Long articleId, Long userId, int score);
+}
@@ -0,0 +1,123 @@
+package com.editorialhouse.backend.repository.article;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.Map;
+
+class RatingRepositoryImpl implements RatingRepositoryCustom {
+
+    // Set in LAST_INSERT_ID when the row already existed; auto-increment ids never get near it
+    private static final long EXISTING_ROW = 1L << 62;
+
+    // On a duplicate key the row keeps its id, and LAST_INSERT_ID is loaded with (EXISTING_ROW + id * 8 + old score).
+    // Scores are 1..5 and fit into the low three bits, so one round trip returns both the id and the previous score.
+    // The flag, not the affected-row count, tells an update from an insert: with Connector/J's default
+    // useAffectedRows=false a re-rate that changes nothing reports 1 row, the same as an insert.
+    private static final String MYSQL_UPSERT =
+            "INSERT INTO rating (article_id, user_id, score, rating_date) VALUES (?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE id = (LAST_INSERT_ID(" + EXISTING_ROW + " + id * 8 + score) - " + EXISTING_ROW + ") DIV 8, " +
+            "score = VALUES(score), rating_date = VALUES(rating_date)";
+
+    private static final String INSERT =
+            "INSERT INTO rating (article_id, user_id, score, rating_date) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Boolean mysql;
+
+    RatingRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public RatingUpsert upsert(Long articleId, Long userId, int score) {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        return isMysql() ? mysqlUpsert(articleId, userId, score, now) : portableUpsert(articleId, userId, score, now);
+    }
+
+    private RatingUpsert mysqlUpsert(Long articleId, Long userId, int score, Timestamp now) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> prepare(connection.prepareStatement(MYSQL_UPSERT, Statement.RETURN_GENERATED_KEYS),
+                articleId, userId, score, now), keyHolder);
+        // Connector/J reports one key per affected row; only the first is the actual LAST_INSERT_ID.
+        // With useAffectedRows=true an unchanged row reports none, so that option must stay off.
+        if (keyHolder.getKeyList().isEmpty()) {
+            throw new IllegalStateException("Rating upsert returned no key; useAffectedRows must not be enabled");
+        }
+        long key = ((Number) keyHolder.getKeyList().get(0).values().iterator().next()).longValue();
+        if (key < EXISTING_ROW) {
+            return new RatingUpsert(key, null);
+        }
+        key -= EXISTING_ROW;
+        return new RatingUpsert(key >> 3, (int) (key & 7));
+    }
+
+    // Databases without ON DUPLICATE KEY UPDATE (e.g. the embedded test database): insert first, update on conflict
+    private RatingUpsert portableUpsert(Long articleId, Long userId, int score, Timestamp now) {
+        Long insertedId = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> insertUnlessRated(connection, articleId, userId, score, now));
+        if (insertedId != null) {
+            return new RatingUpsert(insertedId, null);
+        }
+        Map<String, Object> existing = jdbcTemplate.queryForMap(
+                "SELECT id, score FROM rating WHERE article_id = ? AND user_id = ? FOR UPDATE", articleId, userId);
+        long ratingId = ((Number) existing.get("id")).longValue();
+        jdbcTemplate.update("UPDATE rating SET score = ?, rating_date = ? WHERE id = ?", score, now, ratingId);
+        return new RatingUpsert(ratingId, ((Number) existing.get("score")).intValue());
+    }
+
+    /**
+     * The id of the inserted rating, or null when the user already rated the article. Some databases (PostgreSQL)
+     * abort the whole transaction on a failed statement, so inside the caller's transaction the attempt runs under a
+     * savepoint that is rolled back on the duplicate key.
+     */
+    private Long insertUnlessRated(Connection connection, Long articleId, Long userId, int score, Timestamp now) throws SQLException {
+        Savepoint savepoint = connection.getAutoCommit() ? null : connection.setSavepoint();
+        long ratingId;
+        try (PreparedStatement statement = prepare(connection.prepareStatement(INSERT, Statement.RETURN_GENERATED_KEYS),
+                articleId, userId, score, now)) {
+            statement.executeUpdate();
+            try (ResultSet keys = statement.getGeneratedKeys()) {
+                keys.next();
+                ratingId = keys.getLong(1);
+            }
+        } catch (SQLException e) {
+            if (savepoint != null) {
+                connection.rollback(savepoint);
+            }
+            if (jdbcTemplate.getExceptionTranslator().translate("Rating insert", INSERT, e) instanceof DuplicateKeyException) {
+                return null;
+            }
+            throw e;
+        }
+        if (savepoint != null) {
+            connection.releaseSavepoint(savepoint);
+        }
+        return ratingId;
+    }
+
+    private static PreparedStatement prepare(PreparedStatement statement, Long articleId, Long userId, int score, Timestamp now) throws SQLException {
+        statement.setLong(1, articleId);
+        statement.setLong(2, userId);
+        statement.setInt(3, score);
+        statement.setTimestamp(4, now);
+        return statement;
+    }
+
+    private boolean isMysql() {
+        if (mysql == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            mysql = "MySQL".equalsIgnoreCase(product);
+        }
+        return mysql;
+    }
+}
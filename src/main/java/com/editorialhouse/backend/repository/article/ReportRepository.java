@@ -1,10 +1,24 @@
 package com.editorialhouse.backend.repository.article;
 
 import com.editorialhouse.backend.model.article.Report;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Date;
 import java.util.List;
 
 public interface ReportRepository extends JpaRepository<Report, Long> {
-    List<Report> findByReviewedFalse();
+    List<Report> findByReviewedFalseOrderByFlaggedDescReportDateAsc();
+
+    // Archival candidates in (reviewed, report_date) index order; see ArticleRepository.lockArchivableIds
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select r.id from Report r where r.reviewed = true and r.reportDate < :before order by r.reportDate, r.id")
+    List<Long> lockArchivableIds(@Param("before") Date before, Pageable limit);
 }
@@ -0,0 +1,28 @@
+package com.editorialhouse.backend.repository.cache;
+
+import com.editorialhouse.backend.model.cache.CacheInvalidation;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+public interface CacheInvalidationRepository extends JpaRepository<CacheInvalidation, Long> {
+
+    // Range scan on the primary key, so an idle poll reads no rows at all
+    @Query("select c from CacheInvalidation c where c.id > :afterId order by c.id")
+    List<CacheInvalidation> findAfter(@Param("afterId") long afterId, Pageable limit);
+
+    List<CacheInvalidation> findByIdIn(Collection<Long> ids);
+
+    @Query("select coalesce(max(c.id), 0) from CacheInvalidation c")
+    long findMaxId();
+
+    @Modifying
+    @Query("delete from CacheInvalidation c where c.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") Date before);
+}
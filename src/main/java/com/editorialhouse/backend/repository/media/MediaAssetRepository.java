@@ -0,0 +1,10 @@
+package com.editorialhouse.backend.repository.media;
+
+import com.editorialhouse.backend.model.media.MediaAsset;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface MediaAssetRepository extends JpaRepository<MediaAsset, Long> {
+    Optional<MediaAsset> findBySha256(String sha256);
+}
@@ -0,0 +1,25 @@
+package com.editorialhouse.backend.repository.notification;
+
+import com.editorialhouse.backend.model.notification.OutboxMessage;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Date;
+import java.util.List;
+
+public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, Long> {
+
+    // SKIP LOCKED (lock timeout -2) lets several nodes drain the outbox without handing out the same message twice
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select m from OutboxMessage m where m.status = :status and m.availableAt <= :now order by m.availableAt, m.id")
+    List<OutboxMessage> claimBatch(@Param("status") OutboxMessage.Status status, @Param("now") Date now, Pageable limit);
+
+    long countByStatus(OutboxMessage.Status status);
+}
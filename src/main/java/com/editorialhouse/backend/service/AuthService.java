@@ -1,9 +1,12 @@
 package com.editorialhouse.backend.service;
 
+import com.editorialhouse.backend.event.UserChangedEvent;
 import com.editorialhouse.backend.model.Role;
 import com.editorialhouse.backend.model.User;
 import com.editorialhouse.backend.repository.RoleRepository;
 import com.editorialhouse.backend.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -12,9 +15,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Date;
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
 
 @Service
 public class AuthService {
@@ -23,17 +24,27 @@ public class AuthService {
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UsernameAvailabilityService usernameAvailabilityService;
+    private final SessionExpiryService sessionExpiryService;
 
-    public AuthService(UserRepository userRepository, RoleRepository roleRepository, PasswordEncoder passwordEncoder, AuthenticationManager authenticationManager) {
+    public AuthService(UserRepository userRepository, RoleRepository roleRepository, PasswordEncoder passwordEncoder, AuthenticationManager authenticationManager, ApplicationEventPublisher eventPublisher, UsernameAvailabilityService usernameAvailabilityService, SessionExpiryService sessionExpiryService) {
         this.userRepository = userRepository;
         this.roleRepository = roleRepository;
         this.passwordEncoder = passwordEncoder;
         this.authenticationManager = authenticationManager;
+        this.eventPublisher = eventPublisher;
+        this.usernameAvailabilityService = usernameAvailabilityService;
+        this.sessionExpiryService = sessionExpiryService;
     }
 
     @Transactional
     public void register(User user) {
-        if (userRepository.findByUsername(user.getUsername()).isPresent()) {
+        if (user.getUsername() == null || user.getUsername().isBlank()) {
+            throw new IllegalArgumentException("Username is required!");
+        }
+        // Most sign-ups pick a new name, which the filter rules out without a query (and before hashing the password)
+        if (!usernameAvailabilityService.isAvailable(user.getUsername())) {
             throw new RuntimeException("Username is already taken!");
         }
 
@@ -46,13 +57,25 @@ public class AuthService {
         user.setPassword(passwordEncoder.encode(user.getPassword()));
         user.setRoles(Set.of(userRole));
         user.setCustomPrivileges(Set.of());
-        user.setSessionExpirationDate(new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(7)));
+        user.setSessionExpirationDate(sessionExpiryService.newExpirationDate());
         // Set default values for required fields if not provided
         if (user.getFullName() == null) user.setFullName("New User");
         if (user.getCredentials() == null) user.setCredentials("Web User");
         if (user.getProfilePictureUrl() == null) user.setProfilePictureUrl("default_user.png");
 
-        userRepository.save(user);
+        User savedUser;
+        try {
+            savedUser = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent sign-up took the name after the check; the unique index on username decides
+            throw new RuntimeException("Username is already taken!");
+        }
+        usernameAvailabilityService.add(savedUser.getUsername());
+        eventPublisher.publishEvent(new UserChangedEvent(savedUser.getId()));
+    }
+
+    public boolean isUsernameAvailable(String username) {
+        return usernameAvailabilityService.isAvailable(username);
     }
 
     public void login(String username, String password) {
@@ -61,11 +84,8 @@ public class AuthService {
         );
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
-        // Update session expiration date (7 days)
-        userRepository.findByUsername(username).ifPresent(user -> {
-            user.setSessionExpirationDate(new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(7)));
-            userRepository.save(user);
-        });
+        // New session lifetime (7 days by default): one UPDATE of the date column, skipped if extended recently
+        sessionExpiryService.extend(authentication.getName());
     }
 
     public void logout() {
@@ -0,0 +1,72 @@
+package com.editorialhouse.backend.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size Bloom filter over strings. Safe for concurrent {@link #put} and {@link #mightContain};
+ * never yields a false negative, and false positives at about the configured rate until more than
+ * {@code expectedInsertions} values have been added.
+ */
+final class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        // Optimal sizing: m = -n ln p / (ln 2)^2 bits and k = m / n ln 2 hash functions
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bits = new AtomicLongArray(Math.toIntExact((m + 63) / 64));
+        this.bitCount = (long) bits.length() * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+    }
+
+    void put(String value) {
+        long h1 = hash(value);
+        long h2 = fmix64(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            long mask = 1L << bit;
+            int word = (int) (bit >>> 6);
+            if ((bits.get(word) & mask) == 0) {
+                bits.getAndAccumulate(word, mask, (current, set) -> current | set);
+            }
+        }
+    }
+
+    boolean mightContain(String value) {
+        long h1 = hash(value);
+        long h2 = fmix64(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long sizeInBytes() {
+        return bitCount / 8;
+    }
+
+    // FNV-1a over the UTF-8 bytes, finished with the MurmurHash3 mixer so all 64 bits are usable
+    private static long hash(String value) {
+        long hash = 0xCBF29CE484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash = (hash ^ (b & 0xFF)) * 0x100000001B3L;
+        }
+        return fmix64(hash);
+    }
+
+    private static long fmix64(long k) {
+        k ^= k >>> 33;
+        k *= 0xFF51AFD7ED558CCDL;
+        k ^= k >>> 33;
+        k *= 0xC4CEB9FE1A85EC53L;
+        k ^= k >>> 33;
+        return k;
+    }
+}
@@ -19,7 +19,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service("userDetailsService")
-@Transactional
+@Transactional(readOnly = true) // User lookups can be served by a read replica
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
@@ -0,0 +1,41 @@
+package com.editorialhouse.backend.service;
+
+import com.editorialhouse.backend.event.CacheInvalidatedEvent;
+import com.editorialhouse.backend.model.Privilege;
+import com.editorialhouse.backend.model.Role;
+import com.editorialhouse.backend.model.cache.CacheRegion;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * Explicit invalidation of the second-level cache regions holding roles and privileges.
+ * Edits made through JPA are invalidated by Hibernate itself; this covers the cached name lookups
+ * and changes made outside the application (e.g. SQL migrations), and runs again on every node when another
+ * node reports a role change through the cache invalidation bus.
+ */
+@Service
+public class ReferenceDataCacheService {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public ReferenceDataCacheService(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    public void evictAll() {
+        org.hibernate.Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        cache.evictEntityData(Role.class);
+        cache.evictEntityData(Privilege.class);
+        cache.evictCollectionData(Role.class.getName() + ".privileges");
+        cache.evictDefaultQueryRegion();
+    }
+
+    @EventListener
+    public void onCacheInvalidated(CacheInvalidatedEvent event) {
+        if (event.region() == CacheRegion.REFERENCE_DATA) {
+            evictAll();
+        }
+    }
+}
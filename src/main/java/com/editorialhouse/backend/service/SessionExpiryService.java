@@ -0,0 +1,163 @@
+package com.editorialhouse.backend.service;
+
+import com.editorialhouse.backend.repository.UserRepository;
+import jakarta.servlet.http.HttpSession;
+import jakarta.servlet.http.HttpSessionEvent;
+import jakarta.servlet.http.HttpSessionIdListener;
+import jakarta.servlet.http.HttpSessionListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Enforces the sign-in lifetime kept in {@code user_account.session_expiration_date}.
+ * <p>
+ * Expiry dates are cached per username, so the check on every authenticated request is a map lookup. A cached date
+ * in the future is trusted until the next sweep; a missing or past one is confirmed against the database first,
+ * because a login on another node may have extended it. A login rewrites the date with a single
+ * {@code UPDATE}, and not at all when it was already extended within {@code refresh-threshold-minutes}.
+ * <p>
+ * Authenticated HTTP sessions are tracked as well. The sweeper re-reads the dates of their users in batches and
+ * invalidates the sessions of expired users, instead of leaving them in memory until the container's idle timeout.
+ */
+@Service
+public class SessionExpiryService implements HttpSessionListener, HttpSessionIdListener {
+
+    private static final Logger log = LoggerFactory.getLogger(SessionExpiryService.class);
+
+    // Usernames per IN query when expiry dates are re-read
+    private static final int SWEEP_BATCH_SIZE = 500;
+
+    private record TrackedSession(String username, HttpSession session) {
+    }
+
+    private final UserRepository userRepository;
+    private final long durationMs;
+    private final long refreshThresholdMs;
+
+    private final ConcurrentHashMap<String, Long> expiries = new ConcurrentHashMap<>(); // username -> expires at (ms)
+    private final ConcurrentHashMap<String, TrackedSession> sessions = new ConcurrentHashMap<>(); // session id -> session
+
+    public SessionExpiryService(UserRepository userRepository,
+                                @Value("${auth.session.duration-days:7}") long durationDays,
+                                @Value("${auth.session.refresh-threshold-minutes:60}") long refreshThresholdMinutes) {
+        this.userRepository = userRepository;
+        this.durationMs = TimeUnit.DAYS.toMillis(durationDays);
+        this.refreshThresholdMs = TimeUnit.MINUTES.toMillis(refreshThresholdMinutes);
+    }
+
+    public Date newExpirationDate() {
+        return new Date(System.currentTimeMillis() + durationMs);
+    }
+
+    /**
+     * Starts a new session lifetime for a user who just signed in.
+     */
+    @Transactional
+    public void extend(String username) {
+        long expiresAt = System.currentTimeMillis() + durationMs;
+        Long current = expiries.get(username);
+        if (current != null && expiresAt - current < refreshThresholdMs) {
+            return; // Extended recently enough, skip the write
+        }
+        userRepository.updateSessionExpirationDate(username, new Date(expiresAt));
+        expiries.put(username, expiresAt);
+    }
+
+    // Not read-only, so the confirmation comes from the primary and sees an extension that has just committed
+    public boolean isExpired(String username) {
+        long now = System.currentTimeMillis();
+        Long expiresAt = expiries.get(username);
+        if (expiresAt != null && expiresAt > now) {
+            return false;
+        }
+        load(List.of(username));
+        expiresAt = expiries.get(username);
+        return expiresAt == null || expiresAt <= now;
+    }
+
+    public void track(HttpSession session, String username) {
+        TrackedSession tracked = sessions.get(session.getId());
+        if (tracked == null || !tracked.username().equals(username)) {
+            sessions.put(session.getId(), new TrackedSession(username, session));
+        }
+    }
+
+    @Override
+    public void sessionDestroyed(HttpSessionEvent event) {
+        sessions.remove(event.getSession().getId());
+    }
+
+    @Override
+    public void sessionIdChanged(HttpSessionEvent event, String oldSessionId) {
+        TrackedSession tracked = sessions.remove(oldSessionId);
+        if (tracked != null) {
+            sessions.put(event.getSession().getId(), tracked);
+        }
+    }
+
+    // Re-reads the dates of all signed-in users, so an expiry shortened in the database (e.g. to force a sign-out)
+    // takes effect within one sweep interval
+    @Scheduled(fixedDelayString = "${auth.session.sweep-interval-ms:60000}")
+    public void sweep() {
+        long now = System.currentTimeMillis();
+        Set<String> usernames = new HashSet<>();
+        sessions.values().forEach(tracked -> usernames.add(tracked.username()));
+        load(usernames);
+
+        int invalidated = 0;
+        for (TrackedSession tracked : sessions.values()) {
+            Long expiresAt = expiries.get(tracked.username());
+            if (expiresAt == null || expiresAt <= now) {
+                sessions.remove(tracked.session().getId(), tracked);
+                try {
+                    tracked.session().invalidate();
+                    invalidated++;
+                } catch (IllegalStateException e) {
+                    // Already invalidated
+                }
+            }
+        }
+        expiries.values().removeIf(expiresAt -> expiresAt <= now);
+        if (invalidated > 0) {
+            log.info("Invalidated {} expired sessions", invalidated);
+        }
+    }
+
+    private void load(Collection<String> usernames) {
+        List<String> batch = new ArrayList<>(Math.min(usernames.size(), SWEEP_BATCH_SIZE));
+        for (String username : usernames) {
+            batch.add(username);
+            if (batch.size() == SWEEP_BATCH_SIZE) {
+                loadBatch(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            loadBatch(batch);
+        }
+    }
+
+    private void loadBatch(List<String> usernames) {
+        Set<String> missing = new HashSet<>(usernames);
+        for (UserRepository.SessionExpiry row : userRepository.findSessionExpiries(usernames)) {
+            missing.remove(row.getUsername());
+            if (row.getSessionExpirationDate() != null) {
+                expiries.put(row.getUsername(), row.getSessionExpirationDate().getTime());
+            }
+        }
+        missing.forEach(expiries::remove); // Deleted accounts
+    }
+}
@@ -0,0 +1,258 @@
+package com.editorialhouse.backend.service;
+
+import com.editorialhouse.backend.dto.UserDirectoryPage;
+import com.editorialhouse.backend.dto.UserSummary;
+import com.editorialhouse.backend.event.CacheInvalidatedEvent;
+import com.editorialhouse.backend.event.UserChangedEvent;
+import com.editorialhouse.backend.model.Privilege;
+import com.editorialhouse.backend.model.Role;
+import com.editorialhouse.backend.model.User;
+import com.editorialhouse.backend.model.cache.CacheRegion;
+import com.editorialhouse.backend.repository.RoleRepository;
+import com.editorialhouse.backend.repository.UserRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * In-memory directory of all accounts behind the user administration listing: summaries ordered by id, plus a
+ * sorted index of lowercased usernames, full names and full-name words for prefix search.
+ * <p>
+ * Rebuilt from three scalar queries when the node starts and kept in sync through {@link UserChangedEvent}s and,
+ * for changes made on other nodes, {@link CacheInvalidatedEvent}s,
+ * so listing and searching never load {@code User} entities. Both orders are paged with keyset cursors.
+ */
+@Service
+public class UserDirectoryService {
+
+    // Index keys are "term\0<id padded to 19 digits>", so keys sort by term and then by id
+    private static final char KEY_SEPARATOR = '\0';
+    private static final String ID_FORMAT = "%019d";
+
+    private record Entry(UserSummary summary, List<String> terms) {
+    }
+
+    private final UserRepository userRepository;
+    private final RoleRepository roleRepository;
+
+    private final ConcurrentSkipListMap<Long, Entry> byId = new ConcurrentSkipListMap<>();
+    private final ConcurrentSkipListSet<String> prefixIndex = new ConcurrentSkipListSet<>();
+
+    public UserDirectoryService(UserRepository userRepository, RoleRepository roleRepository) {
+        this.userRepository = userRepository;
+        this.roleRepository = roleRepository;
+    }
+
+    /**
+     * Lists users ordered by id, or, when {@code query} is given, users whose username, full name or a word of
+     * their full name starts with it, ordered by the matching term. Each user appears at most once.
+     */
+    public UserDirectoryPage list(String query, String role, String privilege, Boolean enabled, String cursor, int size) {
+        Predicate<UserSummary> filter = filter(role, privilege, enabled);
+        String prefix = query == null ? "" : query.strip().toLowerCase(Locale.ROOT);
+        String after = decodeCursor(cursor);
+        List<UserSummary> users = new ArrayList<>(size);
+        String last = null;
+        boolean more = false;
+
+        if (prefix.isEmpty()) {
+            Iterator<Entry> entries = (after == null ? byId : byId.tailMap(parseId(after), false)).values().iterator();
+            while (entries.hasNext()) {
+                UserSummary user = entries.next().summary();
+                if (!filter.test(user)) {
+                    continue;
+                }
+                if (users.size() == size) {
+                    more = true;
+                    break;
+                }
+                users.add(user);
+                last = user.id().toString();
+            }
+        } else {
+            if (after != null && !after.startsWith(prefix)) {
+                throw new IllegalArgumentException("Invalid cursor.");
+            }
+            // Every key starting with the prefix lies between the prefix itself and prefix + U+FFFF
+            Iterator<String> keys = prefixIndex.subSet(after == null ? prefix : after, after == null, prefix + Character.MAX_VALUE, false).iterator();
+            while (keys.hasNext()) {
+                String key = keys.next();
+                int separator = key.lastIndexOf(KEY_SEPARATOR);
+                Entry entry = byId.get(Long.parseLong(key, separator + 1, key.length(), 10));
+                // Skips keys of a concurrent update and all but the first matching term of a user
+                if (entry == null || !key.substring(0, separator).equals(firstMatch(entry.terms(), prefix)) || !filter.test(entry.summary())) {
+                    continue;
+                }
+                if (users.size() == size) {
+                    more = true;
+                    break;
+                }
+                users.add(entry.summary());
+                last = key;
+            }
+        }
+        String nextCursor = more ? Base64.getUrlEncoder().withoutPadding().encodeToString(last.getBytes(StandardCharsets.UTF_8)) : null;
+        return new UserDirectoryPage(users, nextCursor);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        reload(event.userId());
+    }
+
+    @EventListener
+    public void onCacheInvalidated(CacheInvalidatedEvent event) {
+        if (event.region() == CacheRegion.USER) {
+            event.keys().forEach(this::reload);
+        }
+    }
+
+    private void reload(Long userId) {
+        userRepository.findById(userId).ifPresentOrElse(user -> put(toSummary(user)), () -> remove(userId));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void rebuild() {
+        Map<Long, List<String>> roles = groupByUser(userRepository.findAllRoleNames());
+        Map<Long, List<String>> customPrivileges = groupByUser(userRepository.findAllCustomPrivilegeNames());
+        byId.clear();
+        prefixIndex.clear();
+        for (UserRepository.UserRow row : userRepository.findAllRows()) {
+            put(new UserSummary(row.getId(), row.getUsername(), row.getFullName(), Boolean.TRUE.equals(row.getEnabled()),
+                    roles.getOrDefault(row.getId(), List.of()), customPrivileges.getOrDefault(row.getId(), List.of())));
+        }
+    }
+
+    private synchronized void put(UserSummary user) {
+        Entry next = new Entry(user, terms(user));
+        Entry previous = byId.put(user.id(), next);
+        // Add before removing so a concurrent search never misses the user entirely
+        for (String term : next.terms()) {
+            prefixIndex.add(key(term, user.id()));
+        }
+        if (previous != null) {
+            for (String term : previous.terms()) {
+                if (!next.terms().contains(term)) {
+                    prefixIndex.remove(key(term, user.id()));
+                }
+            }
+        }
+    }
+
+    private synchronized void remove(Long userId) {
+        Entry previous = byId.remove(userId);
+        if (previous != null) {
+            previous.terms().forEach(term -> prefixIndex.remove(key(term, userId)));
+        }
+    }
+
+    private Predicate<UserSummary> filter(String role, String privilege, Boolean enabled) {
+        Predicate<UserSummary> filter = user -> true;
+        if (enabled != null) {
+            filter = filter.and(user -> user.enabled() == enabled);
+        }
+        if (role != null) {
+            filter = filter.and(user -> user.roles().contains(role));
+        }
+        if (privilege != null) {
+            // A user holds a privilege through any of their roles or as a custom privilege
+            Set<String> grantingRoles = new HashSet<>();
+            for (Role candidate : roleRepository.findAll()) {
+                if (candidate.getPrivileges().stream().anyMatch(p -> p.getName().equals(privilege))) {
+                    grantingRoles.add(candidate.getName());
+                }
+            }
+            filter = filter.and(user -> user.customPrivileges().contains(privilege)
+                    || user.roles().stream().anyMatch(grantingRoles::contains));
+        }
+        return filter;
+    }
+
+    private static UserSummary toSummary(User user) {
+        return new UserSummary(user.getId(), user.getUsername(), user.getFullName(), user.isEnabled(),
+                names(user.getRoles(), Role::getName), names(user.getCustomPrivileges(), Privilege::getName));
+    }
+
+    private static <T> List<String> names(Collection<T> items, Function<T, String> name) {
+        return items == null ? List.of() : items.stream().map(name).sorted().toList();
+    }
+
+    private static Map<Long, List<String>> groupByUser(List<UserRepository.UserAuthorityName> rows) {
+        Map<Long, List<String>> grouped = new HashMap<>();
+        rows.forEach(row -> grouped.computeIfAbsent(row.getUserId(), id -> new ArrayList<>()).add(row.getName()));
+        grouped.values().forEach(names -> names.sort(null));
+        return grouped;
+    }
+
+    // Sorted and distinct, so the first term matching a prefix is also the first of the user's keys in the index
+    private static List<String> terms(UserSummary user) {
+        TreeSet<String> terms = new TreeSet<>();
+        addTerm(terms, user.username());
+        if (user.fullName() != null) {
+            addTerm(terms, user.fullName());
+            for (String word : user.fullName().split("\\s+")) {
+                addTerm(terms, word);
+            }
+        }
+        return List.copyOf(terms);
+    }
+
+    private static void addTerm(Set<String> terms, String value) {
+        String term = value == null ? "" : value.strip().toLowerCase(Locale.ROOT).replace(KEY_SEPARATOR, ' ');
+        if (!term.isEmpty()) {
+            terms.add(term);
+        }
+    }
+
+    private static String firstMatch(List<String> terms, String prefix) {
+        for (String term : terms) {
+            if (term.startsWith(prefix)) {
+                return term;
+            }
+        }
+        return null;
+    }
+
+    private static String key(String term, Long userId) {
+        return term + KEY_SEPARATOR + String.format(ID_FORMAT, userId);
+    }
+
+    private static String decodeCursor(String cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor.");
+        }
+    }
+
+    private static long parseId(String cursor) {
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor.");
+        }
+    }
+}
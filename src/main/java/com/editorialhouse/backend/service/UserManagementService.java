@@ -0,0 +1,110 @@
+package com.editorialhouse.backend.service;
+
+import com.editorialhouse.backend.event.UserChangedEvent;
+import com.editorialhouse.backend.model.Privilege;
+import com.editorialhouse.backend.model.Role;
+import com.editorialhouse.backend.model.User;
+import com.editorialhouse.backend.model.cache.CacheRegion;
+import com.editorialhouse.backend.repository.PrivilegeRepository;
+import com.editorialhouse.backend.repository.RoleRepository;
+import com.editorialhouse.backend.repository.UserRepository;
+import com.editorialhouse.backend.service.audit.AuditAction;
+import com.editorialhouse.backend.service.audit.AuditLog;
+import com.editorialhouse.backend.service.cache.CacheInvalidationBus;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Role and privilege assignments. Each change commits together with the invalidation record it appends
+ * (directly or through the synchronous {@link UserChangedEvent} listener), so other nodes never hear about a
+ * change that rolled back, nor miss one that committed.
+ */
+@Service
+public class UserManagementService {
+
+    private final UserRepository userRepository;
+    private final RoleRepository roleRepository;
+    private final PrivilegeRepository privilegeRepository;
+    private final ReferenceDataCacheService referenceDataCacheService;
+    private final AuditLog auditLog;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    public UserManagementService(UserRepository userRepository, RoleRepository roleRepository, PrivilegeRepository privilegeRepository, ReferenceDataCacheService referenceDataCacheService, AuditLog auditLog, ApplicationEventPublisher eventPublisher, CacheInvalidationBus cacheInvalidationBus) {
+        this.userRepository = userRepository;
+        this.roleRepository = roleRepository;
+        this.privilegeRepository = privilegeRepository;
+        this.referenceDataCacheService = referenceDataCacheService;
+        this.auditLog = auditLog;
+        this.eventPublisher = eventPublisher;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+    }
+
+    @Transactional
+    public User updateRoles(Long userId, List<String> roleNames) {
+        User user = userRepository.findById(userId).orElseThrow(() -> new RuntimeException("User not found"));
+        Set<Role> newRoles = roleNames.stream()
+                .map(roleRepository::findByName)
+                .collect(Collectors.toSet());
+        user.setRoles(newRoles);
+        User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(userId));
+        auditLog.record(AuditAction.USER_ROLES_CHANGED, userId, String.join(",", roleNames));
+        return savedUser;
+    }
+
+    @Transactional
+    public User updateCustomPrivileges(Long userId, List<String> privilegeNames) {
+        User user = userRepository.findById(userId).orElseThrow(() -> new RuntimeException("User not found"));
+        Set<Privilege> newPrivileges = privilegeNames.stream()
+                .map(privilegeRepository::findByName)
+                .collect(Collectors.toSet());
+        user.setCustomPrivileges(newPrivileges);
+        User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(userId));
+        auditLog.record(AuditAction.USER_PRIVILEGES_CHANGED, userId, String.join(",", privilegeNames));
+        return savedUser;
+    }
+
+    @Transactional
+    public Role updateRolePrivileges(String roleName, List<String> privilegeNames) {
+        Role role = roleRepository.findByName(roleName);
+        if (role == null) {
+            throw new RuntimeException("Role not found");
+        }
+        Set<Privilege> newPrivileges = privilegeNames.stream()
+                .map(privilegeRepository::findByName)
+                .collect(Collectors.toSet());
+        role.setPrivileges(newPrivileges);
+        Role savedRole = roleRepository.save(role);
+        // Cached role lookups must not serve the old privileges, here or on any node
+        cacheInvalidationBus.append(CacheRegion.REFERENCE_DATA, savedRole.getId());
+        evictReferenceDataAfterCommit();
+        auditLog.record(AuditAction.ROLE_PRIVILEGES_CHANGED, savedRole.getId(), roleName + ":" + String.join(",", privilegeNames));
+        return savedRole;
+    }
+
+    // For role/privilege changes made directly in the database
+    @Transactional
+    public void evictReferenceData() {
+        cacheInvalidationBus.append(CacheRegion.REFERENCE_DATA, null);
+        evictReferenceDataAfterCommit();
+    }
+
+    // Evicting before the commit would let a concurrent lookup cache the old privileges again
+    private void evictReferenceDataAfterCommit() {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                referenceDataCacheService.evictAll();
+            }
+        });
+    }
+}
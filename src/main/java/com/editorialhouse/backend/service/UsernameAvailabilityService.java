@@ -0,0 +1,117 @@
+package com.editorialhouse.backend.service;
+
+import com.editorialhouse.backend.event.CacheInvalidatedEvent;
+import com.editorialhouse.backend.model.cache.CacheRegion;
+import com.editorialhouse.backend.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.text.Normalizer;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Answers "is this username taken?" from a Bloom filter of all usernames, so the availability check of a sign-up
+ * form and the duplicate check of a registration only reach {@code user_account} for probable hits.
+ * <p>
+ * The filter is built when the node starts, updated on every registration, here or on another node, and rebuilt
+ * periodically, which resizes it as the user base grows. Until the first build completes every
+ * username counts as a probable hit.
+ */
+@Service
+public class UsernameAvailabilityService {
+
+    private static final Logger log = LoggerFactory.getLogger(UsernameAvailabilityService.class);
+
+    private static final int REBUILD_BATCH_SIZE = 10_000;
+
+    private final UserRepository userRepository;
+    private final long expectedUsers;
+    private final double falsePositiveRate;
+    private volatile BloomFilter filter;
+    // The filter being rebuilt, so usernames registered meanwhile are not lost when it replaces the current one
+    private volatile BloomFilter rebuilding;
+
+    public UsernameAvailabilityService(UserRepository userRepository,
+                                       @Value("${auth.username-filter.expected-users:1000000}") long expectedUsers,
+                                       @Value("${auth.username-filter.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.userRepository = userRepository;
+        this.expectedUsers = expectedUsers;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    public boolean isAvailable(String username) {
+        return !mightBeTaken(username) || !userRepository.existsByUsername(username);
+    }
+
+    /**
+     * {@code false} means no account has this username; {@code true} has to be confirmed against the database.
+     */
+    public boolean mightBeTaken(String username) {
+        BloomFilter current = filter;
+        return current == null || current.mightContain(key(username));
+    }
+
+    public void add(String username) {
+        String key = key(username);
+        BloomFilter current = filter;
+        if (current != null) {
+            current.put(key);
+        }
+        BloomFilter next = rebuilding;
+        if (next != null) {
+            next.put(key);
+        }
+    }
+
+    @EventListener
+    public void onCacheInvalidated(CacheInvalidatedEvent event) {
+        if (event.region() == CacheRegion.USER) {
+            userRepository.findUsernamesByIdIn(event.keys()).forEach(row -> add(row.getUsername()));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${auth.username-filter.rebuild-interval-ms:3600000}",
+            initialDelayString = "${auth.username-filter.rebuild-interval-ms:3600000}")
+    public synchronized void rebuild() {
+        long started = System.currentTimeMillis();
+        // Sized for twice the current users, so it stays accurate until the next rebuild resizes it again
+        BloomFilter next = new BloomFilter(Math.max(expectedUsers, userRepository.count() * 2), falsePositiveRate);
+        rebuilding = next;
+        long users = 0;
+        long afterId = 0;
+        List<UserRepository.UsernameRow> batch;
+        do {
+            batch = userRepository.findUsernamesAfter(afterId, PageRequest.ofSize(REBUILD_BATCH_SIZE));
+            for (UserRepository.UsernameRow row : batch) {
+                next.put(key(row.getUsername()));
+                afterId = row.getId();
+            }
+            users += batch.size();
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+        filter = next;
+        rebuilding = null;
+        log.info("Built username filter over {} users ({} KB) in {} ms", users, next.sizeInBytes() / 1024, System.currentTimeMillis() - started);
+    }
+
+    // Usernames that a case- and accent-insensitive collation treats as equal share a key, so the filter never
+    // reports a name as free that the unique index would reject
+    private static String key(String username) {
+        String decomposed = Normalizer.normalize(username, Normalizer.Form.NFD);
+        StringBuilder key = new StringBuilder(decomposed.length());
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) != Character.NON_SPACING_MARK) {
+                key.append(c);
+            }
+        }
+        return key.toString().toLowerCase(Locale.ROOT);
+    }
+}
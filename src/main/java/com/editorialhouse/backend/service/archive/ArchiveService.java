@@ -0,0 +1,216 @@
+package com.editorialhouse.backend.service.archive;
+
+import com.editorialhouse.backend.model.article.Article;
+import com.editorialhouse.backend.model.article.ArticleStatus;
+import com.editorialhouse.backend.model.article.Report;
+import com.editorialhouse.backend.repository.article.ArticleRepository;
+import com.editorialhouse.backend.repository.article.ReportRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Moves cold rows out of the hot tables: rejected (or otherwise configured) unpublished articles that have not been
+ * touched for {@code archive.articles.min-age-days}, together with their comments, ratings and reports, and reviewed
+ * reports older than {@code archive.reports.min-age-days}. Rows keep their ids in the {@code *_archive} tables.
+ * <p>
+ * Each batch is one transaction of {@code INSERT ... SELECT} and {@code DELETE} statements over the locked ids.
+ * Batches are separated by a pause and a run stops after {@code max-run-ms}, so archiving a large backlog neither
+ * holds long locks nor occupies the shared scheduler thread; the next run carries on.
+ * <p>
+ * Archived rows stay reachable through the get-by-id paths: when a lookup misses the hot table,
+ * {@link #restoreArticle} and {@link #restoreReport} move the row back inside the caller's transaction.
+ */
+@Service
+public class ArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(ArchiveService.class);
+
+    // A hot table, its archive and the columns they share
+    private record Tier(String hot, String archive, String columns) {
+    }
+
+    private static final Tier ARTICLES = new Tier("article", "article_archive",
+            "id, title, content, author_id, creation_date, last_modified_date, status, rejection_reason, published, image_url, audio_url, video_url");
+    private static final Tier COMMENTS = new Tier("comment", "comment_archive",
+            "id, article_id, user_id, content, creation_date, is_moderated, held, parent_id, path, depth, reply_count");
+    private static final Tier RATINGS = new Tier("rating", "rating_archive",
+            "id, article_id, user_id, score, rating_date");
+    private static final Tier REPORTS = new Tier("report", "report_archive",
+            "id, article_id, reporter_id, reason, report_date, reviewed, action_taken, flagged");
+
+    private final ArticleRepository articleRepository;
+    private final ReportRepository reportRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long pauseMs;
+    private final long maxRunMs;
+    private final List<ArticleStatus> articleStatuses;
+    private final long articleMinAgeMs;
+    private final long reportMinAgeMs;
+
+    public ArchiveService(ArticleRepository articleRepository, ReportRepository reportRepository, NamedParameterJdbcTemplate jdbcTemplate,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${archive.enabled:true}") boolean enabled,
+                          @Value("${archive.batch-size:200}") int batchSize,
+                          @Value("${archive.pause-ms:200}") long pauseMs,
+                          @Value("${archive.max-run-ms:30000}") long maxRunMs,
+                          @Value("${archive.articles.statuses:REJECTED}") List<ArticleStatus> articleStatuses,
+                          @Value("${archive.articles.min-age-days:180}") long articleMinAgeDays,
+                          @Value("${archive.reports.min-age-days:90}") long reportMinAgeDays) {
+        this.articleRepository = articleRepository;
+        this.reportRepository = reportRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.pauseMs = pauseMs;
+        this.maxRunMs = maxRunMs;
+        this.articleStatuses = articleStatuses;
+        this.articleMinAgeMs = TimeUnit.DAYS.toMillis(articleMinAgeDays);
+        this.reportMinAgeMs = TimeUnit.DAYS.toMillis(reportMinAgeDays);
+    }
+
+    @Scheduled(fixedDelayString = "${archive.interval-ms:60000}", initialDelayString = "${archive.interval-ms:60000}")
+    public void archive() {
+        if (!enabled) {
+            return;
+        }
+        long deadline = System.currentTimeMillis() + maxRunMs;
+        // Articles first: their reports leave with them, whatever their age
+        int articles = drain(this::archiveArticleBatch, deadline);
+        int reports = System.currentTimeMillis() < deadline ? drain(this::archiveReportBatch, deadline) : 0;
+        if (articles > 0 || reports > 0) {
+            log.info("Archived {} articles and {} reports", articles, reports);
+        }
+    }
+
+    // Runs batches until one comes back short or the run is out of time
+    private int drain(Supplier<Integer> batch, long deadline) {
+        int total = 0;
+        Integer moved;
+        do {
+            moved = transactionTemplate.execute(status -> batch.get());
+            total += moved == null ? 0 : moved;
+        } while (moved != null && moved == batchSize && pause(deadline));
+        return total;
+    }
+
+    private int archiveArticleBatch() {
+        Date before = new Date(System.currentTimeMillis() - articleMinAgeMs);
+        // One query per status, each a range of the index, until the batch is full
+        List<Long> ids = new ArrayList<>(batchSize);
+        for (ArticleStatus status : articleStatuses) {
+            if (ids.size() == batchSize) {
+                break;
+            }
+            ids.addAll(articleRepository.lockArchivableIds(status, before, PageRequest.ofSize(batchSize - ids.size())));
+        }
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        MapSqlParameterSource parameters = parameters("ids", ids);
+        // Children before the article, so no foreign key ever points at a missing row
+        moveToArchive(COMMENTS, "article_id IN (:ids)", parameters);
+        moveToArchive(RATINGS, "article_id IN (:ids)", parameters);
+        moveToArchive(REPORTS, "article_id IN (:ids)", parameters);
+        return moveToArchive(ARTICLES, "id IN (:ids)", parameters);
+    }
+
+    private int archiveReportBatch() {
+        Date before = new Date(System.currentTimeMillis() - reportMinAgeMs);
+        List<Long> ids = reportRepository.lockArchivableIds(before, PageRequest.ofSize(batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return moveToArchive(REPORTS, "id IN (:ids)", parameters("ids", ids));
+    }
+
+    /**
+     * Moves an archived article, with everything archived alongside it, back into the hot tables.
+     * Runs in the caller's transaction, so the article returns to the archive if that transaction rolls back.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Optional<Article> restoreArticle(Long id) {
+        MapSqlParameterSource parameters = parameters("id", id);
+        // The article before its children, which reference it
+        if (moveToHot(ARTICLES, "id = :id", parameters) == 0) {
+            return Optional.empty();
+        }
+        moveToHot(COMMENTS, "article_id = :id", parameters);
+        moveToHot(RATINGS, "article_id = :id", parameters);
+        moveToHot(REPORTS, "article_id = :id", parameters);
+        return articleRepository.findById(id);
+    }
+
+    /**
+     * Moves an archived report back, restoring its article first if that was archived too.
+     *
+     * @throws IllegalStateException if the article the report belongs to is in neither table
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Optional<Report> restoreReport(Long id) {
+        MapSqlParameterSource parameters = parameters("id", id);
+        Long articleId = jdbcTemplate.query("SELECT article_id FROM report_archive WHERE id = :id", parameters,
+                rs -> rs.next() ? rs.getLong(1) : null);
+        if (articleId == null) {
+            return Optional.empty();
+        }
+        // Checked before anything moves: the report row cannot be inserted without its article
+        if (!articleRepository.existsById(articleId) && restoreArticle(articleId).isEmpty()) {
+            throw new IllegalStateException("Report " + id + " belongs to article " + articleId + ", which no longer exists");
+        }
+        moveToHot(REPORTS, "id = :id", parameters);
+        return reportRepository.findById(id);
+    }
+
+    private int moveToArchive(Tier tier, String where, MapSqlParameterSource parameters) {
+        parameters.addValue("archivedDate", new Timestamp(System.currentTimeMillis()));
+        jdbcTemplate.update("INSERT INTO " + tier.archive() + " (" + tier.columns() + ", archived_date) SELECT "
+                + tier.columns() + ", :archivedDate FROM " + tier.hot() + " WHERE " + where, parameters);
+        return jdbcTemplate.update("DELETE FROM " + tier.hot() + " WHERE " + where, parameters);
+    }
+
+    private int moveToHot(Tier tier, String where, MapSqlParameterSource parameters) {
+        jdbcTemplate.update("INSERT INTO " + tier.hot() + " (" + tier.columns() + ") SELECT "
+                + tier.columns() + " FROM " + tier.archive() + " WHERE " + where, parameters);
+        return jdbcTemplate.update("DELETE FROM " + tier.archive() + " WHERE " + where, parameters);
+    }
+
+    private static MapSqlParameterSource parameters(String name, Object value) {
+        return new MapSqlParameterSource(name, value);
+    }
+
+    // Throttles between batches; false once the run is out of time
+    private boolean pause(long deadline) {
+        if (System.currentTimeMillis() + pauseMs >= deadline) {
+            return false;
+        }
+        try {
+            Thread.sleep(pauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
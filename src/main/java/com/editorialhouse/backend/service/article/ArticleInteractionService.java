@@ -1,20 +1,30 @@
 package com.editorialhouse.backend.service.article;
 
+import com.editorialhouse.backend.event.ArticleCommentedEvent;
+import com.editorialhouse.backend.event.ArticleRatedEvent;
 import com.editorialhouse.backend.model.User;
 import com.editorialhouse.backend.model.article.*;
+import com.editorialhouse.backend.repository.UserRepository;
 import com.editorialhouse.backend.repository.article.ArticleRepository;
 import com.editorialhouse.backend.repository.article.CommentRepository;
 import com.editorialhouse.backend.repository.article.RatingRepository;
+import com.editorialhouse.backend.repository.article.RatingRepositoryCustom;
 import com.editorialhouse.backend.repository.article.ReportRepository;
-import com.editorialhouse.backend.service.CustomUserDetailsService;
+import com.editorialhouse.backend.service.archive.ArchiveService;
+import com.editorialhouse.backend.service.audit.AuditAction;
+import com.editorialhouse.backend.service.audit.AuditLog;
+import com.editorialhouse.backend.service.moderation.ContentFilter;
+import com.editorialhouse.backend.service.notification.NotificationOutbox;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 
 @Service
 public class ArticleInteractionService {
@@ -23,14 +33,26 @@ public class ArticleInteractionService {
     private final RatingRepository ratingRepository;
     private final CommentRepository commentRepository;
     private final ReportRepository reportRepository;
-    private final CustomUserDetailsService userDetailsService;
-
-    public ArticleInteractionService(ArticleRepository articleRepository, RatingRepository ratingRepository, CommentRepository commentRepository, ReportRepository reportRepository, CustomUserDetailsService userDetailsService) {
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NotificationOutbox notificationOutbox;
+    private final AuditLog auditLog;
+    private final ContentFilter contentFilter;
+    private final ArchiveService archiveService;
+    private final CommentThreadService commentThreadService;
+
+    public ArticleInteractionService(ArticleRepository articleRepository, RatingRepository ratingRepository, CommentRepository commentRepository, ReportRepository reportRepository, UserRepository userRepository, ApplicationEventPublisher eventPublisher, NotificationOutbox notificationOutbox, AuditLog auditLog, ContentFilter contentFilter, ArchiveService archiveService, CommentThreadService commentThreadService) {
         this.articleRepository = articleRepository;
         this.ratingRepository = ratingRepository;
         this.commentRepository = commentRepository;
         this.reportRepository = reportRepository;
-        this.userDetailsService = userDetailsService;
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.notificationOutbox = notificationOutbox;
+        this.auditLog = auditLog;
+        this.contentFilter = contentFilter;
+        this.archiveService = archiveService;
+        this.commentThreadService = commentThreadService;
     }
 
     private User getCurrentUser() {
@@ -38,14 +60,13 @@ public class ArticleInteractionService {
         if (authentication == null || !authentication.isAuthenticated()) {
             throw new AccessDeniedException("User not authenticated");
         }
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        // This is a simplification; in a real app, we'd fetch the full User object
-        // from the repository based on the username.
-        return (User) userDetailsService.loadUserByUsername(userDetails.getUsername());
+        // The principal is Spring's UserDetails, not our entity, so load the User by name
+        return userRepository.findByUsername(authentication.getName())
+                .orElseThrow(() -> new AccessDeniedException("User not found"));
     }
 
     @Transactional
-    public Comment addComment(Long articleId, Comment comment) {
+    public Comment addComment(Long articleId, Comment comment, Long parentId) {
         Article article = articleRepository.findById(articleId)
                 .orElseThrow(() -> new RuntimeException("Article not found"));
         User currentUser = getCurrentUser();
@@ -53,14 +74,58 @@ public class ArticleInteractionService {
         if (!article.isPublished()) {
             throw new IllegalStateException("Cannot comment on an unpublished article.");
         }
+        Comment parent = parentId == null ? null : commentThreadService.findReplyParent(articleId, parentId);
 
+        ContentFilter.Result screening = contentFilter.check(comment.getContent());
         comment.setArticle(article);
         comment.setUser(currentUser);
-        return commentRepository.save(comment);
+        comment.setModerated(screening.matched());
+        comment.setHeld(screening.verdict() == ContentFilter.Verdict.HOLD);
+        Comment savedComment = commentRepository.save(comment);
+        commentThreadService.attach(savedComment, parent);
+        // A held comment only counts once a moderator releases it
+        if (!savedComment.isHeld()) {
+            commentThreadService.countReply(savedComment);
+            eventPublisher.publishEvent(new ArticleCommentedEvent(articleId, savedComment.getId(), System.currentTimeMillis()));
+        }
+        return savedComment;
+    }
+
+    @Transactional(readOnly = true)
+    public List<Comment> getHeldComments(Long articleId) {
+        return commentRepository.findByArticleIdAndHeldTrueOrderByCreationDateAsc(articleId);
+    }
+
+    /**
+     * Releases a held comment, or deletes it when it is not approved. Returns the released comment, or
+     * {@code null} when it was deleted.
+     */
+    @Transactional
+    public Comment moderateComment(Long articleId, Long commentId, boolean approve) {
+        Comment comment = commentRepository.findById(commentId)
+                .filter(c -> c.getArticle().getId().equals(articleId))
+                .orElseThrow(() -> new RuntimeException("Comment not found"));
+        if (!comment.isHeld()) {
+            throw new IllegalStateException("Comment is not held for moderation.");
+        }
+        auditLog.record(AuditAction.COMMENT_MODERATED, commentId, "approve=" + approve);
+        if (!approve) {
+            commentRepository.delete(comment);
+            return null;
+        }
+        comment.setHeld(false);
+        Comment savedComment = commentRepository.save(comment);
+        commentThreadService.countReply(savedComment);
+        eventPublisher.publishEvent(new ArticleCommentedEvent(articleId, savedComment.getId(), System.currentTimeMillis()));
+        return savedComment;
     }
 
     @Transactional
     public Rating addRating(Long articleId, Rating rating) {
+        if (rating.getScore() == null || rating.getScore() < 1 || rating.getScore() > 5) {
+            throw new IllegalArgumentException("Rating score must be between 1 and 5.");
+        }
+
         Article article = articleRepository.findById(articleId)
                 .orElseThrow(() -> new RuntimeException("Article not found"));
         User currentUser = getCurrentUser();
@@ -69,18 +134,14 @@ public class ArticleInteractionService {
             throw new IllegalStateException("Cannot rate an unpublished article.");
         }
 
-        // Check if user has already rated
-        ratingRepository.findByArticleIdAndUserId(articleId, currentUser.getId()).ifPresent(r -> {
-            throw new IllegalStateException("You have already rated this article.");
-        });
-
-        if (rating.getScore() < 1 || rating.getScore() > 5) {
-            throw new IllegalArgumentException("Rating score must be between 1 and 5.");
-        }
+        // A single insert-or-update on the unique (article_id, user_id) index: rating again changes the score
+        RatingRepositoryCustom.RatingUpsert upsert = ratingRepository.upsert(articleId, currentUser.getId(), rating.getScore());
 
+        rating.setId(upsert.ratingId());
         rating.setArticle(article);
         rating.setUser(currentUser);
-        return ratingRepository.save(rating);
+        eventPublisher.publishEvent(new ArticleRatedEvent(articleId, rating.getScore(), upsert.previousScore(), System.currentTimeMillis()));
+        return rating;
     }
 
     @Transactional
@@ -95,20 +156,32 @@ public class ArticleInteractionService {
 
         report.setArticle(article);
         report.setReporter(currentUser);
+        // Reports are never held, but a reason quoting blocked language moves the report up the review queue
+        report.setFlagged(contentFilter.check(report.getReason()).matched());
         return reportRepository.save(report);
     }
 
+    @Transactional(readOnly = true)
     public List<Report> getPendingReports() {
-        return reportRepository.findByReviewedFalse();
+        return reportRepository.findByReviewedFalseOrderByFlaggedDescReportDateAsc();
     }
 
     @Transactional
     public Report reviewReport(Long reportId, boolean actionTaken) {
+        // A decision on an archived report can still be revised; the report is moved back first
         Report report = reportRepository.findById(reportId)
-                .orElseThrow(() -> new RuntimeException("Report not found"));
+                .or(() -> archiveService.restoreReport(reportId))
+                .orElseThrow(() -> new NoSuchElementException("Report not found"));
 
         report.setReviewed(true);
         report.setActionTaken(actionTaken);
-        return reportRepository.save(report);
+        Report savedReport = reportRepository.save(report);
+        // Lets the reader who filed the report know it was looked at
+        notificationOutbox.enqueue(NotificationOutbox.REPORT_REVIEWED, savedReport.getReporter().getId(), Map.of(
+                "reportId", savedReport.getId(),
+                "articleId", savedReport.getArticle().getId(),
+                "actionTaken", actionTaken));
+        auditLog.record(AuditAction.REPORT_REVIEWED, reportId, "actionTaken=" + actionTaken);
+        return savedReport;
     }
 }
@@ -0,0 +1,248 @@
+package com.editorialhouse.backend.service.article;
+
+import com.editorialhouse.backend.dto.RankedArticle;
+import com.editorialhouse.backend.event.ArticleCommentedEvent;
+import com.editorialhouse.backend.event.ArticlePublicationChangedEvent;
+import com.editorialhouse.backend.event.ArticleRatedEvent;
+import com.editorialhouse.backend.event.CacheInvalidatedEvent;
+import com.editorialhouse.backend.model.cache.CacheRegion;
+import com.editorialhouse.backend.repository.article.ArticleRepository;
+import com.editorialhouse.backend.repository.article.CommentRepository;
+import com.editorialhouse.backend.repository.article.RatingRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory leaderboards of published articles, maintained from committed interaction events and
+ * rebuilt from the database when the node starts. Articles changed on other nodes are reloaded individually.
+ * <p>
+ * Trending scores decay exponentially with a configurable half-life. Instead of decaying every entry over time,
+ * each event is weighted by {@code 2^((t - epoch) / halfLife)} and scores are kept as base-2 logarithms,
+ * so newer activity outweighs older activity and the ordering never needs to be recomputed.
+ */
+@Service
+public class ArticleRankingService {
+
+    public enum Ranking {
+        TOP_RATED,
+        MOST_COMMENTED,
+        TRENDING
+    }
+
+    private static final double RATING_WEIGHT = 1.0;
+    private static final double COMMENT_WEIGHT = 2.0;
+
+    private static final class Stats {
+        // Written under the service lock, read lock-free by the ranking endpoints
+        volatile String title;
+        volatile long scoreSum;
+        volatile long ratingCount;
+        volatile long commentCount;
+        volatile double trendingLog = Double.NEGATIVE_INFINITY;
+    }
+
+    private final ArticleRepository articleRepository;
+    private final RatingRepository ratingRepository;
+    private final CommentRepository commentRepository;
+
+    private final double priorMean;
+    private final double priorWeight;
+    private final long halfLifeMillis;
+    private final long trendingWindowMillis;
+    private final long epochMillis = System.currentTimeMillis();
+
+    private final ConcurrentHashMap<Long, Stats> stats = new ConcurrentHashMap<>();
+    private final Leaderboard topRated = new Leaderboard();
+    private final Leaderboard mostCommented = new Leaderboard();
+    private final Leaderboard trending = new Leaderboard();
+
+    public ArticleRankingService(ArticleRepository articleRepository, RatingRepository ratingRepository, CommentRepository commentRepository,
+                                 @Value("${rankings.top-rated.prior-mean:3.0}") double priorMean,
+                                 @Value("${rankings.top-rated.prior-weight:5}") double priorWeight,
+                                 @Value("${rankings.trending.half-life-hours:24}") long halfLifeHours,
+                                 @Value("${rankings.trending.window-days:7}") long trendingWindowDays) {
+        this.articleRepository = articleRepository;
+        this.ratingRepository = ratingRepository;
+        this.commentRepository = commentRepository;
+        this.priorMean = priorMean;
+        this.priorWeight = priorWeight;
+        this.halfLifeMillis = TimeUnit.HOURS.toMillis(halfLifeHours);
+        this.trendingWindowMillis = TimeUnit.DAYS.toMillis(trendingWindowDays);
+    }
+
+    public List<RankedArticle> getRanking(Ranking ranking, int page, int size) {
+        double nowLog = (double) (System.currentTimeMillis() - epochMillis) / halfLifeMillis;
+        return leaderboard(ranking).page(page, size).stream()
+                .map(entry -> toRankedArticle(entry, ranking == Ranking.TRENDING ? Math.pow(2, entry.score() - nowLog) : entry.score()))
+                .toList();
+    }
+
+    // == Incremental updates, applied only once the interaction has committed
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onRated(ArticleRatedEvent event) {
+        Stats article = stats.computeIfAbsent(event.articleId(), id -> new Stats());
+        if (event.previousScore() == null) {
+            article.ratingCount++;
+            article.scoreSum += event.score();
+        } else {
+            article.scoreSum += event.score() - event.previousScore();
+        }
+        article.trendingLog = addLog(article.trendingLog, eventLog(RATING_WEIGHT, event.timestamp()));
+        refresh(event.articleId(), article);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onCommented(ArticleCommentedEvent event) {
+        Stats article = stats.computeIfAbsent(event.articleId(), id -> new Stats());
+        article.commentCount++;
+        article.trendingLog = addLog(article.trendingLog, eventLog(COMMENT_WEIGHT, event.timestamp()));
+        refresh(event.articleId(), article);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onPublicationChanged(ArticlePublicationChangedEvent event) {
+        if (!event.published()) {
+            remove(event.articleId());
+            return;
+        }
+        // A re-published article may still have interactions from its earlier publication
+        Stats article = load(event.articleId(), event.title());
+        stats.put(event.articleId(), article);
+        refresh(event.articleId(), article);
+    }
+
+    // Other nodes only say which articles changed, so their counters and recent activity are re-read
+    @EventListener
+    public synchronized void onCacheInvalidated(CacheInvalidatedEvent event) {
+        if (event.region() != CacheRegion.ARTICLE && event.region() != CacheRegion.ARTICLE_STATS) {
+            return;
+        }
+        Date since = new Date(System.currentTimeMillis() - trendingWindowMillis);
+        for (Long articleId : event.keys()) {
+            articleRepository.findPublishedTitle(articleId).ifPresentOrElse(published -> {
+                Stats article = load(articleId, published.getTitle());
+                ratingRepository.findRatingDatesSince(articleId, since)
+                        .forEach(date -> article.trendingLog = addLog(article.trendingLog, eventLog(RATING_WEIGHT, date.getTime())));
+                commentRepository.findCommentDatesSince(articleId, since)
+                        .forEach(date -> article.trendingLog = addLog(article.trendingLog, eventLog(COMMENT_WEIGHT, date.getTime())));
+                stats.put(articleId, article);
+                refresh(articleId, article);
+            }, () -> remove(articleId));
+        }
+    }
+
+    private Stats load(Long articleId, String title) {
+        Stats article = new Stats();
+        article.title = title;
+        ratingRepository.findAggregate(articleId).ifPresent(aggregate -> {
+            article.scoreSum = aggregate.getScoreSum();
+            article.ratingCount = aggregate.getRatingCount();
+        });
+        article.commentCount = commentRepository.countByArticleIdAndHeldFalse(articleId);
+        return article;
+    }
+
+    private void remove(Long articleId) {
+        stats.remove(articleId);
+        topRated.remove(articleId);
+        mostCommented.remove(articleId);
+        trending.remove(articleId);
+    }
+
+    // == Full rebuild from the database
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void rebuild() {
+        stats.clear();
+        topRated.clear();
+        mostCommented.clear();
+        trending.clear();
+
+        articleRepository.findPublishedTitles()
+                .forEach(article -> stats.computeIfAbsent(article.getId(), id -> new Stats()).title = article.getTitle());
+        ratingRepository.findPublishedAggregates().forEach(aggregate -> {
+            Stats article = stats.computeIfAbsent(aggregate.getArticleId(), id -> new Stats());
+            article.scoreSum = aggregate.getScoreSum();
+            article.ratingCount = aggregate.getRatingCount();
+        });
+        commentRepository.findPublishedAggregates()
+                .forEach(aggregate -> stats.computeIfAbsent(aggregate.getArticleId(), id -> new Stats()).commentCount = aggregate.getCommentCount());
+
+        // Activity older than the window contributes less than 2^-(window/halfLife) and is left out
+        Date since = new Date(System.currentTimeMillis() - trendingWindowMillis);
+        ratingRepository.findPublishedRatingTimesSince(since).forEach(rating -> {
+            Stats article = stats.computeIfAbsent(rating.getArticleId(), id -> new Stats());
+            article.trendingLog = addLog(article.trendingLog, eventLog(RATING_WEIGHT, rating.getRatingDate().getTime()));
+        });
+        commentRepository.findPublishedCommentTimesSince(since).forEach(comment -> {
+            Stats article = stats.computeIfAbsent(comment.getArticleId(), id -> new Stats());
+            article.trendingLog = addLog(article.trendingLog, eventLog(COMMENT_WEIGHT, comment.getCreationDate().getTime()));
+        });
+
+        stats.forEach(this::refresh);
+    }
+
+    private void refresh(Long articleId, Stats article) {
+        if (article.ratingCount > 0) {
+            topRated.update(articleId, bayesianAverage(article));
+        } else {
+            topRated.remove(articleId);
+        }
+        if (article.commentCount > 0) {
+            mostCommented.update(articleId, article.commentCount);
+        } else {
+            mostCommented.remove(articleId);
+        }
+        if (article.trendingLog > Double.NEGATIVE_INFINITY) {
+            trending.update(articleId, article.trendingLog);
+        } else {
+            trending.remove(articleId);
+        }
+    }
+
+    // Pulls averages of rarely rated articles towards the prior, so a single 5-star vote does not top the list
+    private double bayesianAverage(Stats article) {
+        return (article.scoreSum + priorMean * priorWeight) / (article.ratingCount + priorWeight);
+    }
+
+    private double eventLog(double weight, long timestamp) {
+        return Math.log(weight) / Math.log(2) + (double) (timestamp - epochMillis) / halfLifeMillis;
+    }
+
+    // log2(2^a + 2^b) without leaving log space
+    private static double addLog(double a, double b) {
+        if (a == Double.NEGATIVE_INFINITY) {
+            return b;
+        }
+        double max = Math.max(a, b);
+        return max + Math.log1p(Math.pow(2, -Math.abs(a - b))) / Math.log(2);
+    }
+
+    private Leaderboard leaderboard(Ranking ranking) {
+        return switch (ranking) {
+            case TOP_RATED -> topRated;
+            case MOST_COMMENTED -> mostCommented;
+            case TRENDING -> trending;
+        };
+    }
+
+    private RankedArticle toRankedArticle(Leaderboard.Entry entry, double score) {
+        Stats article = stats.get(entry.articleId());
+        if (article == null) {
+            return new RankedArticle(entry.articleId(), null, score, 0, 0, 0);
+        }
+        double average = article.ratingCount == 0 ? 0 : (double) article.scoreSum / article.ratingCount;
+        return new RankedArticle(entry.articleId(), article.title, score, average, article.ratingCount, article.commentCount);
+    }
+}
@@ -0,0 +1,148 @@
+package com.editorialhouse.backend.service.article;
+
+import com.editorialhouse.backend.dto.ArticleRevisionContent;
+import com.editorialhouse.backend.dto.DiffSegment;
+import com.editorialhouse.backend.model.article.Article;
+import com.editorialhouse.backend.model.article.ArticleRevision;
+import com.editorialhouse.backend.repository.article.ArticleRepository;
+import com.editorialhouse.backend.repository.article.ArticleRevisionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+@Service
+public class ArticleRevisionService {
+
+    private static final String REVIEWER_AUTHORITY = "APPROVE_ARTICLE_PRIVILEGE";
+
+    private final ArticleRevisionRepository revisionRepository;
+    private final ArticleRepository articleRepository;
+    private final int snapshotInterval;
+
+    public ArticleRevisionService(ArticleRevisionRepository revisionRepository, ArticleRepository articleRepository,
+                                  @Value("${articles.revisions.snapshot-interval:16}") int snapshotInterval) {
+        this.revisionRepository = revisionRepository;
+        this.articleRepository = articleRepository;
+        this.snapshotInterval = Math.max(snapshotInterval, 1);
+    }
+
+    /**
+     * Records the new state of an article. {@code previousTitle} and {@code previousContent} are what the article
+     * had before this save (null on creation); the content is the base the delta is computed against.
+     */
+    @Transactional
+    public void recordRevision(Article article, String previousTitle, String previousContent, Long editorId) {
+        Integer latest = revisionRepository.findLatestRevisionNumber(article.getId());
+        int revisionNumber;
+        if (latest == null && previousContent != null) {
+            // Articles created before revision tracking get their pre-edit state as the first snapshot
+            revisionRepository.save(snapshot(article.getId(), 1, previousTitle,
+                    previousContent.getBytes(StandardCharsets.UTF_8), editorId));
+            revisionNumber = 2;
+        } else {
+            revisionNumber = latest == null ? 1 : latest + 1;
+        }
+
+        ArticleRevision revision;
+        byte[] delta = null;
+        if (previousContent != null && (revisionNumber - 1) % snapshotInterval != 0) {
+            delta = TextDelta.encode(previousContent, article.getContent());
+        }
+        // Both sizes in bytes: the snapshot stores the content as UTF-8
+        byte[] content = article.getContent().getBytes(StandardCharsets.UTF_8);
+        if (delta == null || delta.length >= content.length) {
+            revision = snapshot(article.getId(), revisionNumber, article.getTitle(), content, editorId);
+        } else {
+            revision = new ArticleRevision();
+            revision.setArticleId(article.getId());
+            revision.setRevisionNumber(revisionNumber);
+            revision.setSnapshot(false);
+            revision.setTitle(article.getTitle());
+            revision.setPayload(delta);
+            revision.setEditorId(editorId);
+        }
+        revisionRepository.save(revision);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ArticleRevisionRepository.RevisionSummary> getRevisions(Long articleId) {
+        checkReadAccess(articleId);
+        return revisionRepository.findByArticleIdOrderByRevisionNumberDesc(articleId);
+    }
+
+    @Transactional(readOnly = true)
+    public ArticleRevisionContent getRevision(Long articleId, int revisionNumber) {
+        checkReadAccess(articleId);
+        return reconstruct(articleId, revisionNumber);
+    }
+
+    @Transactional(readOnly = true)
+    public List<DiffSegment> diff(Long articleId, int fromRevision, int toRevision) {
+        checkReadAccess(articleId);
+        ArticleRevisionContent from = reconstruct(articleId, fromRevision);
+        ArticleRevisionContent to = reconstruct(articleId, toRevision);
+        return TextDelta.segments(from.content(), to.content());
+    }
+
+    @Transactional
+    public void deleteRevisions(Long articleId) {
+        revisionRepository.deleteByArticleId(articleId);
+    }
+
+    // History holds unpublished drafts: only the author and reviewers may read it, as only the author may edit
+    private void checkReadAccess(Long articleId) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new AccessDeniedException("User not authenticated");
+        }
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            if (REVIEWER_AUTHORITY.equals(authority.getAuthority())) {
+                return;
+            }
+        }
+        String author = articleRepository.findAuthorUsername(articleId).orElse(null);
+        if (!authentication.getName().equals(author)) {
+            throw new AccessDeniedException("You are not authorized to view the history of this article.");
+        }
+    }
+
+    private ArticleRevisionContent reconstruct(Long articleId, int revisionNumber) {
+        // Replays at most snapshotInterval deltas on top of the nearest snapshot
+        Integer base = revisionRepository.findBaseSnapshotNumber(articleId, revisionNumber);
+        if (base == null) {
+            throw new RuntimeException("Revision not found");
+        }
+        List<ArticleRevision> chain = revisionRepository
+                .findByArticleIdAndRevisionNumberBetweenOrderByRevisionNumberAsc(articleId, base, revisionNumber);
+        ArticleRevision last = chain.get(chain.size() - 1);
+        if (last.getRevisionNumber() != revisionNumber) {
+            throw new RuntimeException("Revision not found");
+        }
+
+        String content = null;
+        for (ArticleRevision revision : chain) {
+            content = revision.isSnapshot()
+                    ? new String(revision.getPayload(), StandardCharsets.UTF_8)
+                    : TextDelta.apply(content, revision.getPayload());
+        }
+        return new ArticleRevisionContent(articleId, revisionNumber, last.getTitle(), content);
+    }
+
+    private ArticleRevision snapshot(Long articleId, int revisionNumber, String title, byte[] content, Long editorId) {
+        ArticleRevision revision = new ArticleRevision();
+        revision.setArticleId(articleId);
+        revision.setRevisionNumber(revisionNumber);
+        revision.setSnapshot(true);
+        revision.setTitle(title);
+        revision.setPayload(content);
+        revision.setEditorId(editorId);
+        return revision;
+    }
+}
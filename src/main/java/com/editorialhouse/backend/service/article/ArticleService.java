@@ -1,30 +1,56 @@
 package com.editorialhouse.backend.service.article;
 
+import com.editorialhouse.backend.dto.AuthorWorkspacePage;
+import com.editorialhouse.backend.event.ArticlePublicationChangedEvent;
 import com.editorialhouse.backend.model.User;
 import com.editorialhouse.backend.model.article.Article;
 import com.editorialhouse.backend.model.article.ArticleStatus;
+import com.editorialhouse.backend.repository.UserRepository;
 import com.editorialhouse.backend.repository.article.ArticleRepository;
-import com.editorialhouse.backend.service.CustomUserDetailsService;
+import com.editorialhouse.backend.service.archive.ArchiveService;
+import com.editorialhouse.backend.service.audit.AuditAction;
+import com.editorialhouse.backend.service.audit.AuditLog;
+import com.editorialhouse.backend.service.notification.NotificationOutbox;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collection;
 import java.util.Date;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
 public class ArticleService {
 
     private final ArticleRepository articleRepository;
-    private final CustomUserDetailsService userDetailsService;
-
-    public ArticleService(ArticleRepository articleRepository, CustomUserDetailsService userDetailsService) {
+    private final UserRepository userRepository;
+    private final ArticleRevisionService revisionService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ArticleViewCounter viewCounter;
+    private final NotificationOutbox notificationOutbox;
+    private final AuditLog auditLog;
+    private final ArchiveService archiveService;
+
+    public ArticleService(ArticleRepository articleRepository, UserRepository userRepository, ArticleRevisionService revisionService, ApplicationEventPublisher eventPublisher, ArticleViewCounter viewCounter, NotificationOutbox notificationOutbox, AuditLog auditLog, ArchiveService archiveService) {
         this.articleRepository = articleRepository;
-        this.userDetailsService = userDetailsService;
+        this.userRepository = userRepository;
+        this.revisionService = revisionService;
+        this.eventPublisher = eventPublisher;
+        this.viewCounter = viewCounter;
+        this.notificationOutbox = notificationOutbox;
+        this.auditLog = auditLog;
+        this.archiveService = archiveService;
     }
 
     private User getCurrentUser() {
@@ -32,16 +58,95 @@ public class ArticleService {
         if (authentication == null || !authentication.isAuthenticated()) {
             throw new AccessDeniedException("User not authenticated");
         }
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        // This is a simplification; in a real app, we'd fetch the full User object
-        // from the repository based on the username.
-        return (User) userDetailsService.loadUserByUsername(userDetails.getUsername());
+        // The principal is Spring's UserDetails, not our entity, so load the User by name
+        return userRepository.findByUsername(authentication.getName())
+                .orElseThrow(() -> new AccessDeniedException("User not found"));
     }
 
+    @Transactional(readOnly = true)
     public List<Article> getAllPublishedArticles() {
-        return articleRepository.findByPublishedTrue();
+        List<Article> articles = articleRepository.findByPublishedTrue();
+        Map<Long, Long> viewCounts = viewCounter.getViewCounts(articles.stream().map(Article::getId).toList());
+        articles.forEach(article -> article.setViewCount(viewCounts.getOrDefault(article.getId(), 0L)));
+        return articles;
+    }
+
+    @Transactional(readOnly = true)
+    public Article getPublishedArticle(Long id) {
+        Article article = articleRepository.findById(id)
+                .filter(Article::isPublished) // Drafts are not visible through the public read path
+                .orElseThrow(() -> new RuntimeException("Article not found"));
+        viewCounter.recordView(id);
+        article.setViewCount(viewCounter.getViewCount(id));
+        return article;
+    }
+
+    /**
+     * Published articles among {@code ids}, loaded in one query and keyed by id. Unlike {@link #getPublishedArticle}
+     * this does not count a view: batches feed sidebars and widgets rather than article pages.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Article> getPublishedArticles(Collection<Long> ids) {
+        Map<Long, Article> articles = new HashMap<>();
+        if (ids.isEmpty()) {
+            return articles;
+        }
+        articleRepository.findByIdInAndPublishedTrue(ids).forEach(article -> articles.put(article.getId(), article));
+        Map<Long, Long> viewCounts = viewCounter.getViewCounts(articles.keySet());
+        articles.values().forEach(article -> article.setViewCount(viewCounts.getOrDefault(article.getId(), 0L)));
+        return articles;
+    }
+
+    /**
+     * The current author's articles, most recently modified first, optionally restricted to one status.
+     * Pages are addressed by an opaque cursor instead of an offset, so deep pages cost the same as the first.
+     */
+    @Transactional(readOnly = true)
+    public AuthorWorkspacePage getAuthorWorkspace(ArticleStatus status, String cursor, int size) {
+        User currentUser = getCurrentUser();
+        // One extra row tells whether there is a next page without a count query
+        PageRequest limit = PageRequest.ofSize(size + 1);
+        List<ArticleRepository.ArticleSummary> articles;
+        if (cursor == null) {
+            articles = status == null
+                    ? articleRepository.findAuthorFirstPage(currentUser.getId(), limit)
+                    : articleRepository.findAuthorFirstPageByStatus(currentUser.getId(), status, limit);
+        } else {
+            Date lastModified;
+            long lastId;
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII).split(":");
+                lastModified = new Date(Long.parseLong(parts[0]));
+                lastId = Long.parseLong(parts[1]);
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid cursor.");
+            }
+            articles = status == null
+                    ? articleRepository.findAuthorPage(currentUser.getId(), lastModified, lastId, limit)
+                    : articleRepository.findAuthorPageByStatus(currentUser.getId(), status, lastModified, lastId, limit);
+        }
+        String nextCursor = null;
+        if (articles.size() > size) {
+            articles = articles.subList(0, size);
+            ArticleRepository.ArticleSummary last = articles.get(size - 1);
+            nextCursor = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                    (last.getLastModifiedDate().getTime() + ":" + last.getId()).getBytes(StandardCharsets.US_ASCII));
+        }
+
+        Map<ArticleStatus, Long> statusCounts = null;
+        if (cursor == null) {
+            statusCounts = new EnumMap<>(ArticleStatus.class);
+            for (ArticleStatus value : ArticleStatus.values()) {
+                statusCounts.put(value, 0L);
+            }
+            for (ArticleRepository.StatusCount count : articleRepository.countByAuthorGroupedByStatus(currentUser.getId())) {
+                statusCounts.put(count.getStatus(), count.getCount());
+            }
+        }
+        return new AuthorWorkspacePage(articles, nextCursor, statusCounts);
     }
 
+    @Transactional(readOnly = true)
     public List<Article> getArticlesForApproval() {
         // Only Admins and Supervisors can see articles pending approval
         // This check should be done at the controller level with @PreAuthorize
@@ -59,13 +164,14 @@ public class ArticleService {
         article.setCreationDate(new Date());
         article.setLastModifiedDate(new Date());
         article.setStatus(ArticleStatus.DRAFT);
-        return articleRepository.save(article);
+        Article savedArticle = articleRepository.save(article);
+        revisionService.recordRevision(savedArticle, null, null, currentUser.getId());
+        return savedArticle;
     }
 
     @Transactional
     public Article updateArticle(Long id, Article updatedArticle) {
-        Article existingArticle = articleRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Article not found"));
+        Article existingArticle = findArticle(id);
 
         User currentUser = getCurrentUser();
         // Only the author can update their article
@@ -78,18 +184,22 @@ public class ArticleService {
             throw new IllegalStateException("Cannot update an article that is published or pending approval.");
         }
 
+        String previousTitle = existingArticle.getTitle();
+        String previousContent = existingArticle.getContent();
         existingArticle.setTitle(updatedArticle.getTitle());
         existingArticle.setContent(updatedArticle.getContent());
         existingArticle.setLastModifiedDate(new Date());
         // Other fields like image/audio/video URLs should also be updated
 
-        return articleRepository.save(existingArticle);
+        Article savedArticle = articleRepository.save(existingArticle);
+        // Old text is kept as a delta in the revision log instead of being lost
+        revisionService.recordRevision(savedArticle, previousTitle, previousContent, currentUser.getId());
+        return savedArticle;
     }
 
     @Transactional
     public void deleteArticle(Long id) {
-        Article existingArticle = articleRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Article not found"));
+        Article existingArticle = findArticle(id);
 
         User currentUser = getCurrentUser();
         // An article can only be deleted by its creator.
@@ -97,13 +207,17 @@ public class ArticleService {
             throw new AccessDeniedException("You are not authorized to delete this article.");
         }
 
+        revisionService.deleteRevisions(id);
         articleRepository.delete(existingArticle);
+        auditLog.record(AuditAction.ARTICLE_DELETED, id, existingArticle.getTitle());
+        if (existingArticle.isPublished()) {
+            eventPublisher.publishEvent(new ArticlePublicationChangedEvent(id, existingArticle.getTitle(), false));
+        }
     }
 
     @Transactional
     public Article submitForApproval(Long id) {
-        Article article = articleRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Article not found"));
+        Article article = findArticle(id);
 
         User currentUser = getCurrentUser();
         // Only the author can submit their article
@@ -114,6 +228,7 @@ public class ArticleService {
         if (article.getStatus() == ArticleStatus.DRAFT || article.getStatus() == ArticleStatus.REJECTED) {
             article.setStatus(ArticleStatus.PENDING_APPROVAL);
             article.setRejectionReason(null); // Clear rejection reason on resubmission
+            auditLog.record(AuditAction.ARTICLE_SUBMITTED, id, null);
             return articleRepository.save(article);
         } else {
             throw new IllegalStateException("Article is not in a state to be submitted for approval.");
@@ -122,14 +237,16 @@ public class ArticleService {
 
     @Transactional
     public Article approveArticle(Long id) {
-        Article article = articleRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Article not found"));
+        Article article = findArticle(id);
 
         // Security check for APPROVE_ARTICLE_PRIVILEGE is done at the controller level
 
         if (article.getStatus() == ArticleStatus.PENDING_APPROVAL) {
             article.setStatus(ArticleStatus.APPROVED);
-            return articleRepository.save(article);
+            Article savedArticle = articleRepository.save(article);
+            notifyAuthor(NotificationOutbox.ARTICLE_APPROVED, savedArticle);
+            auditLog.record(AuditAction.ARTICLE_APPROVED, id, null);
+            return savedArticle;
         } else {
             throw new IllegalStateException("Article is not pending approval.");
         }
@@ -137,16 +254,18 @@ public class ArticleService {
 
     @Transactional
     public Article rejectArticle(Long id, String reason) {
-        Article article = articleRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Article not found"));
+        Article article = findArticle(id);
 
         // Security check for APPROVE_ARTICLE_PRIVILEGE is done at the controller level
 
         if (article.getStatus() == ArticleStatus.PENDING_APPROVAL) {
             article.setStatus(ArticleStatus.REJECTED);
             article.setRejectionReason(reason);
-            // In a real app, we would inform the Clerk of the reason here (e.g., email)
-            return articleRepository.save(article);
+            Article savedArticle = articleRepository.save(article);
+            // The Clerk is informed of the reason through the notification outbox
+            notifyAuthor(NotificationOutbox.ARTICLE_REJECTED, savedArticle);
+            auditLog.record(AuditAction.ARTICLE_REJECTED, id, reason);
+            return savedArticle;
         } else {
             throw new IllegalStateException("Article is not pending approval.");
         }
@@ -154,15 +273,18 @@ public class ArticleService {
 
     @Transactional
     public Article publishArticle(Long id) {
-        Article article = articleRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Article not found"));
+        Article article = findArticle(id);
 
         // Security check for PUBLISH_PRIVILEGE is done at the controller level
 
         if (article.getStatus() == ArticleStatus.APPROVED) {
             article.setStatus(ArticleStatus.PUBLISHED);
             article.setPublished(true);
-            return articleRepository.save(article);
+            Article savedArticle = articleRepository.save(article);
+            eventPublisher.publishEvent(new ArticlePublicationChangedEvent(id, savedArticle.getTitle(), true));
+            notifyAuthor(NotificationOutbox.ARTICLE_PUBLISHED, savedArticle);
+            auditLog.record(AuditAction.ARTICLE_PUBLISHED, id, null);
+            return savedArticle;
         } else {
             throw new IllegalStateException("Article is not approved and cannot be published.");
         }
@@ -170,17 +292,36 @@ public class ArticleService {
 
     @Transactional
     public Article unpublishArticle(Long id) {
-        Article article = articleRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Article not found"));
+        Article article = findArticle(id);
 
         // Security check for DELETE_ANY_ARTICLE_PRIVILEGE is done at the controller level
 
         if (article.isPublished()) {
             article.setPublished(false);
             // Optionally change status back to APPROVED or DRAFT
-            return articleRepository.save(article);
+            Article savedArticle = articleRepository.save(article);
+            eventPublisher.publishEvent(new ArticlePublicationChangedEvent(id, savedArticle.getTitle(), false));
+            auditLog.record(AuditAction.ARTICLE_UNPUBLISHED, id, null);
+            return savedArticle;
         } else {
             throw new IllegalStateException("Article is not published.");
         }
     }
+
+    // Falls back to the archive, moving an archived draft back so it can be edited, resubmitted or deleted
+    private Article findArticle(Long id) {
+        return articleRepository.findById(id)
+                .or(() -> archiveService.restoreArticle(id))
+                .orElseThrow(() -> new RuntimeException("Article not found"));
+    }
+
+    private void notifyAuthor(String type, Article article) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("articleId", article.getId());
+        payload.put("title", article.getTitle());
+        if (article.getRejectionReason() != null) {
+            payload.put("reason", article.getRejectionReason());
+        }
+        notificationOutbox.enqueue(type, article.getAuthor().getId(), payload);
+    }
 }
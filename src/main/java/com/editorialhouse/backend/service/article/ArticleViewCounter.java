@@ -0,0 +1,84 @@
+package com.editorialhouse.backend.service.article;
+
+import com.editorialhouse.backend.model.article.ArticleViewCount;
+import com.editorialhouse.backend.repository.article.ArticleViewCountRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts article views in striped in-memory counters and periodically adds them to the
+ * {@code article_view_count} table in one batched upsert, so the read path never writes to the database.
+ */
+@Service
+public class ArticleViewCounter {
+
+    private static final Logger log = LoggerFactory.getLogger(ArticleViewCounter.class);
+
+    private final ArticleViewCountRepository viewCountRepository;
+    // LongAdder stripes increments across cells, so concurrent readers of a hot article do not contend
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    public ArticleViewCounter(ArticleViewCountRepository viewCountRepository) {
+        this.viewCountRepository = viewCountRepository;
+    }
+
+    public void recordView(Long articleId) {
+        pending.computeIfAbsent(articleId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * Persisted views plus the views recorded on this node since the last flush.
+     */
+    public Map<Long, Long> getViewCounts(Collection<Long> articleIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        for (ArticleViewCount count : viewCountRepository.findAllById(articleIds)) {
+            counts.put(count.getArticleId(), count.getViews());
+        }
+        for (Long articleId : articleIds) {
+            LongAdder unflushed = pending.get(articleId);
+            counts.merge(articleId, unflushed == null ? 0 : unflushed.sum(), Long::sum);
+        }
+        return counts;
+    }
+
+    public long getViewCount(Long articleId) {
+        return getViewCounts(List.of(articleId)).get(articleId);
+    }
+
+    @Scheduled(fixedDelayString = "${articles.views.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        Map<Long, Long> deltas = new HashMap<>();
+        pending.forEach((articleId, adder) -> {
+            // Adders are kept (one per viewed article) so that no increment can land on a discarded counter
+            long views = adder.sumThenReset();
+            if (views > 0) {
+                deltas.put(articleId, views);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+        try {
+            viewCountRepository.incrementAll(deltas);
+        } catch (RuntimeException e) {
+            // Put the views back so the next flush retries them
+            deltas.forEach((articleId, views) -> pending.computeIfAbsent(articleId, id -> new LongAdder()).add(views));
+            log.warn("Failed to flush {} article view counters, will retry", deltas.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void drain() {
+        flush();
+    }
+}
@@ -0,0 +1,168 @@
+package com.editorialhouse.backend.service.article;
+
+import com.editorialhouse.backend.dto.CommentThreadPage;
+import com.editorialhouse.backend.model.article.Comment;
+import com.editorialhouse.backend.repository.article.ArticleRepository;
+import com.editorialhouse.backend.repository.article.CommentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Reply threading for comments, stored as materialized paths.
+ * <p>
+ * A comment's path is its parent's path followed by its own id as a fixed-width segment. Ids grow with time, so
+ * ordering by path lists a thread depth-first with replies oldest first, and every subtree is a prefix range of the
+ * {@code (article_id, path)} index. A whole thread, or the branch below one comment, is read with one range scan,
+ * limited in depth and paged by the last path returned.
+ * <p>
+ * Threads nest at most {@code comments.thread.max-depth} levels below the top-level comments; a reply to a comment
+ * at that depth is attached to that comment's parent instead.
+ */
+@Service
+public class CommentThreadService {
+
+    private static final Logger log = LoggerFactory.getLogger(CommentThreadService.class);
+
+    private static final String SEGMENT_FORMAT = "%0" + Comment.PATH_SEGMENT_LENGTH + "d";
+    private static final int BACKFILL_BATCH_SIZE = 1000;
+
+    private final CommentRepository commentRepository;
+    private final ArticleRepository articleRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxDepth;
+
+    public CommentThreadService(CommentRepository commentRepository, ArticleRepository articleRepository,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${comments.thread.max-depth:8}") int maxDepth) {
+        int maxLevels = Comment.MAX_PATH_LENGTH / Comment.PATH_SEGMENT_LENGTH;
+        if (maxDepth < 0 || maxDepth >= maxLevels) {
+            throw new IllegalArgumentException("comments.thread.max-depth must be between 0 and " + (maxLevels - 1));
+        }
+        this.commentRepository = commentRepository;
+        this.articleRepository = articleRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * Looks up the comment a reply goes under, moving up the thread while the reply would be nested too deep.
+     * Returns null when the reply ends up a top-level comment.
+     */
+    public Comment findReplyParent(Long articleId, Long parentId) {
+        Comment parent = findVisible(articleId, parentId);
+        while (parent != null && parent.getDepth() >= maxDepth) {
+            parent = parent.getParentId() == null ? null : findVisible(articleId, parent.getParentId());
+        }
+        return parent;
+    }
+
+    /**
+     * Places a just-inserted comment in its thread; the path needs the generated id, so it is set after the insert.
+     */
+    public void attach(Comment comment, Comment parent) {
+        String segment = String.format(SEGMENT_FORMAT, comment.getId());
+        comment.setReplyCount(0);
+        if (parent == null) {
+            comment.setParentId(null);
+            comment.setPath(segment);
+            comment.setDepth(0);
+        } else {
+            comment.setParentId(parent.getId());
+            comment.setPath(parent.getPath() + segment);
+            comment.setDepth(parent.getDepth() + 1);
+        }
+    }
+
+    // Counted when the reply becomes visible, i.e. on insert or on release by a moderator
+    public void countReply(Comment comment) {
+        if (comment.getParentId() != null) {
+            commentRepository.incrementReplyCount(comment.getParentId());
+        }
+    }
+
+    /**
+     * Visible comments of a published article in thread order, {@code depth} levels deep: the top-level comments
+     * and their replies, or, with {@code parentId}, the replies below that comment. Comments whose
+     * {@code replyCount} is not matched by the returned replies are expanded by requesting them as the parent.
+     * A depth beyond the levels threads can have is rejected rather than scanned for.
+     */
+    @Transactional(readOnly = true)
+    public CommentThreadPage getThread(Long articleId, Long parentId, int depth, String cursor, int size) {
+        if (depth < 1 || depth > maxDepth + 1) {
+            throw new IllegalArgumentException("Depth must be between 1 and " + (maxDepth + 1) + ".");
+        }
+        if (articleRepository.findPublishedTitle(articleId).isEmpty()) {
+            throw new RuntimeException("Article not found");
+        }
+        String prefix = "";
+        int deepest = depth - 1;
+        if (parentId != null) {
+            Comment parent = findVisible(articleId, parentId);
+            prefix = parent.getPath();
+            deepest = parent.getDepth() + depth;
+        }
+        // Strictly after the prefix, which leaves out the parent itself
+        String after = prefix;
+        if (cursor != null) {
+            after = decodeCursor(cursor);
+            if (!after.startsWith(prefix)) {
+                throw new IllegalArgumentException("Invalid cursor.");
+            }
+        }
+
+        // One extra row tells whether there is a next page without a count query
+        List<CommentRepository.ThreadComment> comments = commentRepository.findThreadPage(articleId, prefix + "%", after,
+                deepest, PageRequest.ofSize(size + 1));
+        String nextCursor = null;
+        if (comments.size() > size) {
+            comments = comments.subList(0, size);
+            nextCursor = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                    comments.get(size - 1).getPath().getBytes(StandardCharsets.US_ASCII));
+        }
+        return new CommentThreadPage(comments, nextCursor);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillPaths() {
+        int total = 0;
+        Integer updated;
+        do {
+            updated = transactionTemplate.execute(status -> commentRepository.backfillPaths(BACKFILL_BATCH_SIZE));
+            total += updated == null ? 0 : updated;
+        } while (updated != null && updated == BACKFILL_BATCH_SIZE);
+        if (total > 0) {
+            log.info("Gave {} existing comments a thread path", total);
+        }
+    }
+
+    // Held comments cannot be replied to or expanded until a moderator releases them
+    private Comment findVisible(Long articleId, Long commentId) {
+        return commentRepository.findById(commentId)
+                .filter(c -> c.getArticle().getId().equals(articleId) && !c.isHeld())
+                .orElseThrow(() -> new RuntimeException("Comment not found"));
+    }
+
+    private static String decodeCursor(String cursor) {
+        try {
+            String path = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            if (path.isEmpty() || path.length() % Comment.PATH_SEGMENT_LENGTH != 0 || !path.chars().allMatch(Character::isDigit)) {
+                throw new IllegalArgumentException();
+            }
+            return path;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor.");
+        }
+    }
+}
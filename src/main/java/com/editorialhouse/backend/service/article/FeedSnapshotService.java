@@ -0,0 +1,211 @@
+package com.editorialhouse.backend.service.article;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+import com.editorialhouse.backend.event.ArticlePublicationChangedEvent;
+import com.editorialhouse.backend.event.CacheInvalidatedEvent;
+import com.editorialhouse.backend.model.article.Article;
+import com.editorialhouse.backend.model.cache.CacheRegion;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps the anonymous {@code GET /api/articles/published} response rendered as JSON and pre-compressed with gzip
+ * and brotli, plus its CBOR and Smile encodings, so the feed is served as bytes instead of being loaded and
+ * serialized for every reader.
+ * <p>
+ * The snapshot is re-rendered whenever an article is published or unpublished, on this or another node, and periodically so that the
+ * view counts it carries do not drift too far from {@link ArticleViewCounter}. Renders run on one background thread, so
+ * neither the publishing request nor the shared scheduler waits for the compression; requests arriving while one is
+ * queued are served by it, and readers get the previous snapshot until the new one is ready.
+ */
+@Service
+public class FeedSnapshotService {
+
+    private static final Logger log = LoggerFactory.getLogger(FeedSnapshotService.class);
+
+    public record Snapshot(byte[] json, byte[] gzip, byte[] brotli, byte[] cbor, byte[] smile, String etag,
+                           Map<Long, Article> articles) {
+    }
+
+    private final ArticleService articleService;
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper cborMapper;
+    private final ObjectMapper smileMapper;
+    private final boolean brotliAvailable;
+    private final ExecutorService renderer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "feed-snapshot");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean renderQueued = new AtomicBoolean();
+    private volatile Snapshot snapshot;
+
+    public FeedSnapshotService(ArticleService articleService, ObjectMapper objectMapper,
+                               MappingJackson2CborHttpMessageConverter cborConverter,
+                               MappingJackson2SmileHttpMessageConverter smileConverter,
+                               @Value("${articles.feed-snapshot.brotli:true}") boolean brotli) {
+        this.articleService = articleService;
+        this.objectMapper = objectMapper;
+        this.cborMapper = cborConverter.getObjectMapper();
+        this.smileMapper = smileConverter.getObjectMapper();
+        this.brotliAvailable = brotli && loadBrotli();
+    }
+
+    public Snapshot getSnapshot() {
+        Snapshot current = snapshot;
+        return current != null ? current : render();
+    }
+
+    /**
+     * Published articles among {@code ids} in request order, each id at most once; unknown and unpublished ids are
+     * left out. Articles in the current snapshot are returned from it (their view counts are as fresh as the feed's),
+     * the rest are loaded together in one query.
+     */
+    public List<Article> getPublishedArticles(List<Long> ids) {
+        Map<Long, Article> cached = getSnapshot().articles();
+        Set<Long> misses = new LinkedHashSet<>();
+        for (Long id : ids) {
+            if (!cached.containsKey(id)) {
+                misses.add(id);
+            }
+        }
+        Map<Long, Article> loaded = articleService.getPublishedArticles(misses);
+        Map<Long, Article> result = new LinkedHashMap<>();
+        for (Long id : ids) {
+            Article article = cached.containsKey(id) ? cached.get(id) : loaded.get(id);
+            if (article != null) {
+                result.putIfAbsent(id, article);
+            }
+        }
+        return List.copyOf(result.values());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPublicationChanged(ArticlePublicationChangedEvent event) {
+        requestRender();
+    }
+
+    // Once per poll of the invalidation bus, however many articles other nodes published meanwhile
+    @EventListener
+    public void onCacheInvalidated(CacheInvalidatedEvent event) {
+        if (event.region() == CacheRegion.ARTICLE) {
+            requestRender();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${articles.feed-snapshot.refresh-interval-ms:30000}")
+    public void refresh() {
+        requestRender();
+    }
+
+    // At most one render waits behind the running one; it clears the flag before reading, so it sees every
+    // change committed before the request that found it already queued
+    private void requestRender() {
+        if (!renderQueued.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            renderer.execute(() -> {
+                renderQueued.set(false);
+                try {
+                    render();
+                } catch (RuntimeException e) {
+                    log.warn("Could not render the feed snapshot, still serving the previous one", e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            renderQueued.set(false); // Shutting down
+        }
+    }
+
+    // Serialized so a slow render started before a publish cannot overwrite the newer snapshot
+    private synchronized Snapshot render() {
+        try {
+            List<Article> articles = articleService.getAllPublishedArticles();
+            byte[] json = objectMapper.writeValueAsBytes(articles);
+            Snapshot current = snapshot;
+            if (current != null && MessageDigest.isEqual(current.json(), json)) {
+                return current; // Nothing changed, keep the compressed variants
+            }
+            // Published articles cannot be edited, so the rendered instances can also serve batch reads
+            Map<Long, Article> byId = articles.stream().collect(Collectors.toUnmodifiableMap(Article::getId, article -> article));
+            Snapshot rendered = new Snapshot(json, gzip(json), brotliAvailable ? brotli(json) : null,
+                    cborMapper.writeValueAsBytes(articles), smileMapper.writeValueAsBytes(articles), etag(json), byId);
+            snapshot = rendered;
+            return rendered;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        renderer.shutdown();
+        if (!renderer.awaitTermination(10, TimeUnit.SECONDS)) {
+            renderer.shutdownNow();
+        }
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4 + 64);
+        // Compressed once per render, so the highest level is affordable
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {{ def.setLevel(Deflater.BEST_COMPRESSION); }}) {
+            gzip.write(data);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] brotli(byte[] data) throws IOException {
+        return Encoder.compress(data, new Encoder.Parameters().setQuality(11).setMode(Encoder.Mode.TEXT));
+    }
+
+    private static String etag(byte[] data) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(data);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static boolean loadBrotli() {
+        try {
+            Brotli4jLoader.ensureAvailability();
+            return true;
+        } catch (Throwable e) {
+            // No native encoder for this platform: the feed is still served gzip-compressed
+            log.warn("Brotli is not available, the public feed will only be pre-compressed with gzip", e);
+            return false;
+        }
+    }
+}
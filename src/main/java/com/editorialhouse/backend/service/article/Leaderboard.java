@@ -0,0 +1,66 @@
+package com.editorialhouse.backend.service.article;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Articles ordered by a score, highest first. Updates are serialized per leaderboard while reads walk the
+ * skip list without locking.
+ */
+class Leaderboard {
+
+    record Entry(long articleId, double score) {
+    }
+
+    private static final Comparator<Entry> ORDER = Comparator
+            .comparingDouble(Entry::score).reversed()
+            .thenComparingLong(Entry::articleId);
+
+    private final ConcurrentSkipListSet<Entry> ranking = new ConcurrentSkipListSet<>(ORDER);
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    synchronized void update(long articleId, double score) {
+        Entry next = new Entry(articleId, score);
+        Entry previous = entries.put(articleId, next);
+        // Insert before removing so a concurrent reader never misses the article entirely
+        ranking.add(next);
+        if (previous != null && !previous.equals(next)) {
+            ranking.remove(previous);
+        }
+    }
+
+    synchronized void remove(long articleId) {
+        Entry previous = entries.remove(articleId);
+        if (previous != null) {
+            ranking.remove(previous);
+        }
+    }
+
+    synchronized void clear() {
+        entries.clear();
+        ranking.clear();
+    }
+
+    List<Entry> page(int page, int size) {
+        List<Entry> result = new ArrayList<>(size);
+        Iterator<Entry> iterator = ranking.iterator();
+        long skip = (long) page * size;
+        while (iterator.hasNext() && result.size() < size) {
+            Entry entry = iterator.next();
+            if (skip > 0) {
+                skip--;
+            } else {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,104 @@
+package com.editorialhouse.backend.service.article;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * MinHash signatures of texts over their word shingles (runs of {@code shingleSize} consecutive words).
+ * <p>
+ * Each signature position keeps the minimum of one hash function over all shingles of the text. Two texts agree in a
+ * position with probability equal to the Jaccard similarity of their shingle sets, so the fraction of agreeing
+ * positions estimates it. The hash functions come from a fixed seed, so every node computes the same signatures.
+ */
+final class MinHasher {
+
+    private static final long SEED = 0x5DEECE66DL;
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final int shingleSize;
+    // h_i(x) = high 32 bits of (multipliers[i] * x + increments[i]); multipliers are odd
+    private final long[] multipliers;
+    private final long[] increments;
+
+    MinHasher(int shingleSize, int hashCount) {
+        if (shingleSize < 1 || hashCount < 1) {
+            throw new IllegalArgumentException("Shingle size and hash count must be positive");
+        }
+        this.shingleSize = shingleSize;
+        this.multipliers = new long[hashCount];
+        this.increments = new long[hashCount];
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (int i = 0; i < hashCount; i++) {
+            multipliers[i] = random.nextLong() | 1;
+            increments[i] = random.nextLong();
+        }
+    }
+
+    int hashCount() {
+        return multipliers.length;
+    }
+
+    /**
+     * The signature of a text, or null when it has no words. Texts shorter than a shingle are one shingle.
+     */
+    int[] signature(String text) {
+        long[] words = wordHashes(text);
+        if (words.length == 0) {
+            return null;
+        }
+        int[] signature = new int[multipliers.length];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        int shingles = Math.max(1, words.length - shingleSize + 1);
+        for (int start = 0; start < shingles; start++) {
+            long shingle = 0;
+            for (int w = start, end = Math.min(start + shingleSize, words.length); w < end; w++) {
+                shingle = shingle * FNV_PRIME + words[w];
+            }
+            shingle = mix(shingle);
+            for (int i = 0; i < signature.length; i++) {
+                int value = (int) ((multipliers[i] * shingle + increments[i]) >>> 32);
+                if (value < signature[i]) {
+                    signature[i] = value;
+                }
+            }
+        }
+        return signature;
+    }
+
+    // FNV-1a of each lowercased run of letters and digits, without building the word strings
+    private static long[] wordHashes(String text) {
+        if (text == null) {
+            return new long[0];
+        }
+        long[] hashes = new long[64];
+        int count = 0;
+        long hash = FNV_OFFSET;
+        boolean inWord = false;
+        for (int i = 0, length = text.length(); i <= length; i++) {
+            char c = i < length ? text.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                hash = (hash ^ Character.toLowerCase(c)) * FNV_PRIME;
+                inWord = true;
+            } else if (inWord) {
+                if (count == hashes.length) {
+                    hashes = Arrays.copyOf(hashes, count * 2);
+                }
+                hashes[count++] = hash;
+                hash = FNV_OFFSET;
+                inWord = false;
+            }
+        }
+        return Arrays.copyOf(hashes, count);
+    }
+
+    // MurmurHash3 finalizer, spreads the shingle hash over all 64 bits
+    static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
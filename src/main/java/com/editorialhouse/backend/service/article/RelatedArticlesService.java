@@ -0,0 +1,142 @@
+package com.editorialhouse.backend.service.article;
+
+import com.editorialhouse.backend.dto.RelatedArticle;
+import com.editorialhouse.backend.event.ArticlePublicationChangedEvent;
+import com.editorialhouse.backend.event.CacheInvalidatedEvent;
+import com.editorialhouse.backend.model.cache.CacheRegion;
+import com.editorialhouse.backend.repository.article.ArticleRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Related articles by text similarity, served from an in-memory {@link SimilarityIndex} of MinHash signatures of the
+ * published articles.
+ * <p>
+ * Published articles cannot be edited, so a signature is computed once when an article is published (or reloaded when
+ * another node publishes it) and dropped when it is unpublished or deleted. When the node starts, the index is built
+ * from the database page by page, hashing each page in parallel on the common fork-join pool.
+ */
+@Service
+public class RelatedArticlesService {
+
+    private static final Logger log = LoggerFactory.getLogger(RelatedArticlesService.class);
+
+    private static final int REBUILD_PAGE_SIZE = 500;
+    // Articles hashed by one fork-join task before it stops splitting
+    private static final int SIGNATURE_SLICE = 16;
+
+    private final ArticleRepository articleRepository;
+    private final MinHasher minHasher;
+    private final int bands;
+    private final double minSimilarity;
+
+    private volatile SimilarityIndex index;
+
+    public RelatedArticlesService(ArticleRepository articleRepository,
+                                  @Value("${related.shingle-size:3}") int shingleSize,
+                                  @Value("${related.hashes:128}") int hashCount,
+                                  @Value("${related.bands:32}") int bands,
+                                  @Value("${related.min-similarity:0.1}") double minSimilarity) {
+        this.articleRepository = articleRepository;
+        this.minHasher = new MinHasher(shingleSize, hashCount);
+        this.bands = bands;
+        this.minSimilarity = minSimilarity;
+        this.index = new SimilarityIndex(hashCount, bands, 0);
+    }
+
+    // No database access; an article that is not published (or has no text) has no related articles
+    public List<RelatedArticle> getRelated(Long articleId, int limit) {
+        return index.similar(articleId, limit, minSimilarity).stream()
+                .map(match -> new RelatedArticle(match.articleId(), match.title(), match.similarity()))
+                .toList();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onPublicationChanged(ArticlePublicationChangedEvent event) {
+        reload(event.articleId());
+    }
+
+    @EventListener
+    public synchronized void onCacheInvalidated(CacheInvalidatedEvent event) {
+        if (event.region() == CacheRegion.ARTICLE) {
+            event.keys().forEach(this::reload);
+        }
+    }
+
+    private void reload(Long articleId) {
+        articleRepository.findPublishedText(articleId).ifPresentOrElse(article -> {
+            int[] signature = minHasher.signature(article.getContent());
+            if (signature != null) {
+                index.put(articleId, article.getTitle(), signature);
+            } else {
+                index.remove(articleId);
+            }
+        }, () -> index.remove(articleId));
+    }
+
+    // == Full rebuild from the database
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void rebuild() {
+        long started = System.currentTimeMillis();
+        SimilarityIndex next = new SimilarityIndex(minHasher.hashCount(), bands, (int) articleRepository.countByPublishedTrue());
+        long afterId = 0;
+        List<ArticleRepository.ArticleText> page;
+        do {
+            page = articleRepository.findPublishedTextPage(afterId, PageRequest.ofSize(REBUILD_PAGE_SIZE));
+            String[] contents = page.stream().map(ArticleRepository.ArticleText::getContent).toArray(String[]::new);
+            int[][] signatures = new int[contents.length][];
+            ForkJoinPool.commonPool().invoke(new SignatureTask(contents, signatures, 0, contents.length));
+            for (int i = 0; i < signatures.length; i++) {
+                if (signatures[i] != null) {
+                    next.put(page.get(i).getId(), page.get(i).getTitle(), signatures[i]);
+                }
+            }
+            if (!page.isEmpty()) {
+                afterId = page.get(page.size() - 1).getId();
+            }
+        } while (page.size() == REBUILD_PAGE_SIZE);
+        index = next;
+        log.info("Indexed {} published articles for related articles in {} ms", next.size(), System.currentTimeMillis() - started);
+    }
+
+    // Halves the range until a slice is small enough to hash on one worker
+    private final class SignatureTask extends RecursiveAction {
+
+        private final String[] contents;
+        private final int[][] signatures;
+        private final int from;
+        private final int to;
+
+        SignatureTask(String[] contents, int[][] signatures, int from, int to) {
+            this.contents = contents;
+            this.signatures = signatures;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SIGNATURE_SLICE) {
+                for (int i = from; i < to; i++) {
+                    signatures[i] = minHasher.signature(contents[i]);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new SignatureTask(contents, signatures, from, middle), new SignatureTask(contents, signatures, middle, to));
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.editorialhouse.backend.service.article;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * MinHash signatures of articles, stored slot by slot in one flat int array, with locality-sensitive hashing over
+ * bands of each signature: articles that agree in every row of a band share that band's bucket. Only articles that
+ * share a bucket are compared, so a lookup costs the size of a few buckets instead of the whole corpus.
+ * <p>
+ * With {@code b} bands of {@code r} rows, a pair with similarity {@code s} shares a bucket with probability
+ * {@code 1 - (1 - s^r)^b}. Updates take the write lock; lookups share the read lock.
+ */
+class SimilarityIndex {
+
+    record Match(long articleId, String title, double similarity) {
+    }
+
+    private static final Comparator<Match> ORDER = Comparator
+            .comparingDouble(Match::similarity).reversed()
+            .thenComparingLong(Match::articleId);
+    private static final int[] EMPTY = new int[0];
+
+    private final int hashCount;
+    private final int bands;
+    private final int rows;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Slot-indexed; a freed slot is reused by the next article
+    private int[] signatures;
+    private long[] articleIds;
+    private String[] titles;
+    private int slotCount;
+    private final BitSet freeSlots = new BitSet();
+    private final Map<Long, Integer> slots = new HashMap<>();
+    private final Map<Long, int[]> buckets = new HashMap<>(); // band key -> slots
+
+    SimilarityIndex(int hashCount, int bands, int capacity) {
+        if (bands < 1 || hashCount % bands != 0) {
+            throw new IllegalArgumentException("The hash count must be a multiple of the band count");
+        }
+        this.hashCount = hashCount;
+        this.bands = bands;
+        this.rows = hashCount / bands;
+        int slots = Math.max(16, capacity);
+        this.signatures = new int[slots * hashCount];
+        this.articleIds = new long[slots];
+        this.titles = new String[slots];
+    }
+
+    void put(long articleId, String title, int[] signature) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(articleId);
+            int slot = freeSlots.isEmpty() ? slotCount++ : freeSlots.nextSetBit(0);
+            freeSlots.clear(slot);
+            ensureCapacity(slotCount);
+            System.arraycopy(signature, 0, signatures, slot * hashCount, hashCount);
+            articleIds[slot] = articleId;
+            titles[slot] = title;
+            slots.put(articleId, slot);
+            for (int band = 0; band < bands; band++) {
+                buckets.merge(bandKey(slot, band), new int[]{slot}, SimilarityIndex::append);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(long articleId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(articleId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * The most similar articles sharing a bucket with the given one, by estimated Jaccard similarity.
+     */
+    List<Match> similar(long articleId, int limit, double minSimilarity) {
+        lock.readLock().lock();
+        try {
+            Integer slot = slots.get(articleId);
+            if (slot == null) {
+                return List.of();
+            }
+            BitSet seen = new BitSet(slotCount);
+            seen.set(slot);
+            List<Match> matches = new ArrayList<>();
+            for (int band = 0; band < bands; band++) {
+                for (int candidate : buckets.getOrDefault(bandKey(slot, band), EMPTY)) {
+                    if (seen.get(candidate)) {
+                        continue;
+                    }
+                    seen.set(candidate);
+                    double similarity = similarity(slot, candidate);
+                    if (similarity >= minSimilarity) {
+                        matches.add(new Match(articleIds[candidate], titles[candidate], similarity));
+                    }
+                }
+            }
+            matches.sort(ORDER);
+            return matches.size() > limit ? List.copyOf(matches.subList(0, limit)) : matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return slots.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeLocked(long articleId) {
+        Integer slot = slots.remove(articleId);
+        if (slot == null) {
+            return;
+        }
+        for (int band = 0; band < bands; band++) {
+            long key = bandKey(slot, band);
+            int[] remaining = without(buckets.get(key), slot);
+            if (remaining.length == 0) {
+                buckets.remove(key);
+            } else {
+                buckets.put(key, remaining);
+            }
+        }
+        titles[slot] = null;
+        freeSlots.set(slot);
+    }
+
+    private double similarity(int a, int b) {
+        int offsetA = a * hashCount;
+        int offsetB = b * hashCount;
+        int agreeing = 0;
+        for (int i = 0; i < hashCount; i++) {
+            if (signatures[offsetA + i] == signatures[offsetB + i]) {
+                agreeing++;
+            }
+        }
+        return (double) agreeing / hashCount;
+    }
+
+    // Band index and row values hashed together; a collision only adds a candidate that the comparison rejects
+    private long bandKey(int slot, int band) {
+        long key = band;
+        int offset = slot * hashCount + band * rows;
+        for (int row = 0; row < rows; row++) {
+            key = key * 0x9E3779B97F4A7C15L + signatures[offset + row];
+        }
+        return MinHasher.mix(key);
+    }
+
+    private void ensureCapacity(int slots) {
+        if (slots > articleIds.length) {
+            int grown = Math.max(slots, articleIds.length * 2);
+            signatures = Arrays.copyOf(signatures, grown * hashCount);
+            articleIds = Arrays.copyOf(articleIds, grown);
+            titles = Arrays.copyOf(titles, grown);
+        }
+    }
+
+    private static int[] append(int[] bucket, int[] added) {
+        int[] grown = Arrays.copyOf(bucket, bucket.length + 1);
+        grown[bucket.length] = added[0];
+        return grown;
+    }
+
+    private static int[] without(int[] bucket, int slot) {
+        if (bucket == null) {
+            return EMPTY;
+        }
+        for (int i = 0; i < bucket.length; i++) {
+            if (bucket[i] == slot) {
+                int[] shrunk = new int[bucket.length - 1];
+                System.arraycopy(bucket, 0, shrunk, 0, i);
+                System.arraycopy(bucket, i + 1, shrunk, i, bucket.length - i - 1);
+                return shrunk;
+            }
+        }
+        return bucket;
+    }
+}
@@ -0,0 +1,257 @@
+package com.editorialhouse.backend.service.article;
+
+import com.editorialhouse.backend.dto.DiffSegment;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Word-level diff and compact binary delta encoding for article revisions.
+ * <p>
+ * A delta is a varint-encoded list of COPY(offset, length) ranges taken from the base text and
+ * INSERT(bytes) runs, so its size follows the size of the edit rather than the size of the article.
+ */
+public final class TextDelta {
+
+    private static final int OP_COPY = 0;
+    private static final int OP_INSERT = 1;
+
+    // Beyond this many edited words a delta is no smaller than a snapshot, so we stop searching
+    static final int MAX_EDIT_DISTANCE = 1000;
+
+    private TextDelta() {
+    }
+
+    /**
+     * Encodes {@code target} as a delta against {@code base}, or returns {@code null} when the two texts
+     * differ too much for a delta to pay off.
+     */
+    public static byte[] encode(String base, String target) {
+        List<Op> ops = diff(base, target);
+        if (ops == null) {
+            return null;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeVarint(out, target.length());
+        for (Op op : ops) {
+            if (op.type == DiffSegment.Type.EQUAL) {
+                writeVarint(out, OP_COPY);
+                writeVarint(out, op.baseStart);
+                writeVarint(out, op.baseEnd - op.baseStart);
+            } else if (op.type == DiffSegment.Type.INSERT) {
+                byte[] text = target.substring(op.targetStart, op.targetEnd).getBytes(StandardCharsets.UTF_8);
+                writeVarint(out, OP_INSERT);
+                writeVarint(out, text.length);
+                out.write(text, 0, text.length);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    public static String apply(String base, byte[] delta) {
+        ByteBuffer in = ByteBuffer.wrap(delta);
+        StringBuilder result = new StringBuilder(readVarint(in));
+        while (in.hasRemaining()) {
+            int op = readVarint(in);
+            if (op == OP_COPY) {
+                int offset = readVarint(in);
+                int length = readVarint(in);
+                result.append(base, offset, offset + length);
+            } else if (op == OP_INSERT) {
+                int length = readVarint(in);
+                result.append(new String(delta, in.position(), length, StandardCharsets.UTF_8));
+                in.position(in.position() + length);
+            } else {
+                throw new IllegalStateException("Corrupt revision delta: unknown op " + op);
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * Human-readable diff between two texts. Falls back to a whole-text replacement when the texts are
+     * too far apart for the bounded word diff.
+     */
+    public static List<DiffSegment> segments(String base, String target) {
+        List<Op> ops = diff(base, target);
+        List<DiffSegment> segments = new ArrayList<>();
+        if (ops == null) {
+            segments.add(new DiffSegment(DiffSegment.Type.DELETE, base));
+            segments.add(new DiffSegment(DiffSegment.Type.INSERT, target));
+            return segments;
+        }
+        for (Op op : ops) {
+            String text = op.type == DiffSegment.Type.INSERT
+                    ? target.substring(op.targetStart, op.targetEnd)
+                    : base.substring(op.baseStart, op.baseEnd);
+            segments.add(new DiffSegment(op.type, text));
+        }
+        return segments;
+    }
+
+    // == Word diff (Myers' O(ND) algorithm over interned word tokens)
+
+    private record Op(DiffSegment.Type type, int baseStart, int baseEnd, int targetStart, int targetEnd) {
+    }
+
+    private static List<Op> diff(String base, String target) {
+        Map<String, Integer> dictionary = new HashMap<>();
+        int[] baseBounds = tokenBounds(base);
+        int[] targetBounds = tokenBounds(target);
+        int[] a = intern(base, baseBounds, dictionary);
+        int[] b = intern(target, targetBounds, dictionary);
+
+        // Common prefix and suffix are stripped first; most edits touch a small region of the article
+        int prefix = 0;
+        while (prefix < a.length && prefix < b.length && a[prefix] == b[prefix]) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < a.length - prefix && suffix < b.length - prefix
+                && a[a.length - 1 - suffix] == b[b.length - 1 - suffix]) {
+            suffix++;
+        }
+
+        List<int[]> middle = myers(a, prefix, a.length - suffix, b, prefix, b.length - suffix);
+        if (middle == null) {
+            return null;
+        }
+
+        // Edit script in token space: {type, tokenStartA, tokenEndA, tokenStartB, tokenEndB}
+        List<int[]> tokenOps = new ArrayList<>();
+        tokenOps.add(new int[]{0, 0, prefix, 0, prefix});
+        tokenOps.addAll(middle);
+        tokenOps.add(new int[]{0, a.length - suffix, a.length, b.length - suffix, b.length});
+
+        List<Op> ops = new ArrayList<>();
+        for (int[] t : tokenOps) {
+            if (t[2] == t[1] && t[4] == t[3]) {
+                continue;
+            }
+            DiffSegment.Type type = DiffSegment.Type.values()[t[0]];
+            Op op = new Op(type, baseBounds[t[1]], baseBounds[t[2]], targetBounds[t[3]], targetBounds[t[4]]);
+            Op last = ops.isEmpty() ? null : ops.get(ops.size() - 1);
+            if (last != null && last.type == type) {
+                ops.set(ops.size() - 1, new Op(type, last.baseStart, op.baseEnd, last.targetStart, op.targetEnd));
+            } else {
+                ops.add(op);
+            }
+        }
+        return ops;
+    }
+
+    private static List<int[]> myers(int[] a, int aFrom, int aTo, int[] b, int bFrom, int bTo) {
+        int n = aTo - aFrom;
+        int m = bTo - bFrom;
+        int maxD = Math.min(n + m, MAX_EDIT_DISTANCE);
+        int offset = maxD + 1;
+        int[] v = new int[2 * maxD + 3];
+        List<int[]> trace = new ArrayList<>();
+
+        for (int d = 0; d <= maxD; d++) {
+            for (int k = -d; k <= d; k += 2) {
+                int x = (k == -d || (k != d && v[offset + k - 1] < v[offset + k + 1]))
+                        ? v[offset + k + 1]
+                        : v[offset + k - 1] + 1;
+                int y = x - k;
+                while (x < n && y < m && a[aFrom + x] == b[bFrom + y]) {
+                    x++;
+                    y++;
+                }
+                v[offset + k] = x;
+                if (x >= n && y >= m) {
+                    int[] slice = new int[2 * d + 1];
+                    System.arraycopy(v, offset - d, slice, 0, slice.length);
+                    trace.add(slice);
+                    return backtrack(trace, n, m, aFrom, bFrom);
+                }
+            }
+            int[] slice = new int[2 * d + 1];
+            System.arraycopy(v, offset - d, slice, 0, slice.length);
+            trace.add(slice);
+        }
+        return null;
+    }
+
+    private static List<int[]> backtrack(List<int[]> trace, int n, int m, int aFrom, int bFrom) {
+        List<int[]> reversed = new ArrayList<>();
+        int x = n;
+        int y = m;
+        for (int d = trace.size() - 1; d > 0; d--) {
+            int[] previous = trace.get(d - 1);
+            int k = x - y;
+            boolean down = k == -d || (k != d && previous[k - 1 + d - 1] < previous[k + 1 + d - 1]);
+            int previousK = down ? k + 1 : k - 1;
+            int previousX = previous[previousK + d - 1];
+            int previousY = previousX - previousK;
+            int snakeX = down ? previousX : previousX + 1;
+            int snakeY = snakeX - k;
+            if (x > snakeX) {
+                reversed.add(new int[]{0, aFrom + snakeX, aFrom + x, bFrom + snakeY, bFrom + y});
+            }
+            if (down) {
+                reversed.add(new int[]{1, aFrom + previousX, aFrom + previousX, bFrom + previousY, bFrom + snakeY});
+            } else {
+                reversed.add(new int[]{2, aFrom + previousX, aFrom + snakeX, bFrom + previousY, bFrom + previousY});
+            }
+            x = previousX;
+            y = previousY;
+        }
+        if (x > 0) {
+            reversed.add(new int[]{0, aFrom, aFrom + x, bFrom, bFrom + y});
+        }
+        List<int[]> ops = new ArrayList<>(reversed.size());
+        for (int i = reversed.size() - 1; i >= 0; i--) {
+            ops.add(reversed.get(i));
+        }
+        return ops;
+    }
+
+    // Token boundaries: each token is a word followed by its trailing whitespace
+    private static int[] tokenBounds(String text) {
+        List<Integer> bounds = new ArrayList<>();
+        bounds.add(0);
+        for (int i = 1; i < text.length(); i++) {
+            if (Character.isWhitespace(text.charAt(i - 1)) && !Character.isWhitespace(text.charAt(i))) {
+                bounds.add(i);
+            }
+        }
+        if (!text.isEmpty()) {
+            bounds.add(text.length());
+        }
+        return bounds.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int[] intern(String text, int[] bounds, Map<String, Integer> dictionary) {
+        int[] tokens = new int[Math.max(bounds.length - 1, 0)];
+        for (int i = 0; i < tokens.length; i++) {
+            tokens[i] = dictionary.computeIfAbsent(text.substring(bounds[i], bounds[i + 1]), t -> dictionary.size());
+        }
+        return tokens;
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int readVarint(ByteBuffer in) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.get();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+}
@@ -0,0 +1,18 @@
+package com.editorialhouse.backend.service.audit;
+
+/**
+ * Audited actions. Stored by ordinal in the audit segments: append new actions at the end, never reorder or remove.
+ */
+public enum AuditAction {
+    USER_ROLES_CHANGED,
+    USER_PRIVILEGES_CHANGED,
+    ROLE_PRIVILEGES_CHANGED,
+    ARTICLE_SUBMITTED,
+    ARTICLE_APPROVED,
+    ARTICLE_REJECTED,
+    ARTICLE_PUBLISHED,
+    ARTICLE_UNPUBLISHED,
+    ARTICLE_DELETED,
+    REPORT_REVIEWED,
+    COMMENT_MODERATED
+}
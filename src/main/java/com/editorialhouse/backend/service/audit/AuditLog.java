@@ -0,0 +1,267 @@
+package com.editorialhouse.backend.service.audit;
+
+import com.editorialhouse.backend.dto.AuditEntry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * Append-only audit trail kept in rolling memory-mapped segment files instead of the database.
+ * <p>
+ * Callers only enqueue onto a lock-free queue; a single writer thread encodes the records into the current
+ * segment, forces it to disk every {@code fsync-interval-ms}, rotates to a new segment when it is full and
+ * deletes segments older than the retention period. Records made inside a transaction are only enqueued once
+ * it commits, so rolled-back changes leave no trace.
+ */
+@Service
+public class AuditLog {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditLog.class);
+
+    // Records may be enqueued shortly before a rotation; segments are searched with this much overlap
+    private static final long SEGMENT_TIME_SLACK_MS = TimeUnit.MINUTES.toMillis(1);
+
+    private record Pending(long timestamp, AuditAction action, String actor, long targetId, String detail) {
+    }
+
+    private final Path directory;
+    private final int segmentSize;
+    private final long fsyncIntervalNanos;
+    private final long retentionMillis;
+    private final int queueCapacity;
+
+    private final ConcurrentLinkedQueue<Pending> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final LongAdder dropped = new LongAdder();
+    private final AtomicBoolean writerParked = new AtomicBoolean();
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    // Owned by the writer thread
+    private AuditSegment current;
+    private long lastForce = System.nanoTime();
+    private long lastRetentionCheck;
+
+    public AuditLog(@Value("${audit.dir:audit-log}") String directory,
+                    @Value("${audit.segment-size-mb:64}") int segmentSizeMb,
+                    @Value("${audit.fsync-interval-ms:1000}") long fsyncIntervalMs,
+                    @Value("${audit.retention-days:365}") long retentionDays,
+                    @Value("${audit.queue-capacity:65536}") int queueCapacity) throws IOException {
+        this.directory = Path.of(directory).toAbsolutePath();
+        this.segmentSize = segmentSizeMb * 1024 * 1024;
+        this.fsyncIntervalNanos = TimeUnit.MILLISECONDS.toNanos(fsyncIntervalMs);
+        this.retentionMillis = TimeUnit.DAYS.toMillis(retentionDays);
+        this.queueCapacity = queueCapacity;
+        Files.createDirectories(this.directory);
+        List<Path> segments = segments();
+        this.current = segments.isEmpty() ? newSegment() : AuditSegment.openForAppend(segments.get(segments.size() - 1));
+        this.writer = new Thread(this::writeLoop, "audit-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Records an action by the current user. Never blocks: if the writer has fallen {@code queue-capacity}
+     * records behind, the record is dropped and counted.
+     */
+    public void record(AuditAction action, long targetId, String detail) {
+        Pending pending = new Pending(System.currentTimeMillis(), action, currentActor(), targetId, detail);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(pending);
+                }
+            });
+        } else {
+            enqueue(pending);
+        }
+    }
+
+    /**
+     * Records between {@code from} and {@code to} (epoch millis, inclusive), oldest first, at most {@code limit}.
+     */
+    public List<AuditEntry> query(long from, long to, int limit) {
+        List<AuditEntry> result = new ArrayList<>();
+        List<Path> segments = segments();
+        for (int i = 0; i < segments.size() && result.size() < limit; i++) {
+            long segmentStart = createdAt(segments.get(i));
+            long segmentEnd = i + 1 < segments.size() ? createdAt(segments.get(i + 1)) : Long.MAX_VALUE;
+            if (segmentStart - SEGMENT_TIME_SLACK_MS > to || (segmentEnd != Long.MAX_VALUE && segmentEnd + SEGMENT_TIME_SLACK_MS < from)) {
+                continue;
+            }
+            for (AuditEntry entry : readSegment(segments.get(i), from, to)) {
+                if (result.size() == limit) {
+                    break;
+                }
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The most recent {@code limit} records, oldest first.
+     */
+    public List<AuditEntry> tail(int limit) {
+        List<AuditEntry> result = new ArrayList<>();
+        List<Path> segments = segments();
+        for (int i = segments.size() - 1; i >= 0 && result.size() < limit; i--) {
+            List<AuditEntry> entries = readSegment(segments.get(i), Long.MIN_VALUE, Long.MAX_VALUE);
+            for (int j = entries.size() - 1; j >= 0 && result.size() < limit; j--) {
+                result.add(entries.get(j));
+            }
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    private void enqueue(Pending pending) {
+        if (queued.incrementAndGet() > queueCapacity) {
+            queued.decrementAndGet();
+            dropped.increment();
+            return;
+        }
+        queue.offer(pending);
+        if (writerParked.get() && writerParked.compareAndSet(true, false)) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    private void writeLoop() {
+        while (running || !queue.isEmpty()) {
+            Pending pending = queue.poll();
+            if (pending == null) {
+                maintain();
+                writerParked.set(true);
+                if (queue.isEmpty() && running) { // Re-check, a producer may have missed the flag
+                    LockSupport.parkNanos(this, fsyncIntervalNanos);
+                }
+                writerParked.set(false);
+                continue;
+            }
+            queued.decrementAndGet();
+            try {
+                write(pending);
+            } catch (IOException | RuntimeException e) {
+                dropped.increment();
+                log.error("Failed to write audit record {}", pending, e);
+            }
+        }
+        try {
+            current.close();
+        } catch (IOException e) {
+            log.warn("Failed to close audit segment {}", current.path(), e);
+        }
+    }
+
+    private void write(Pending pending) throws IOException {
+        if (!current.append(pending.timestamp(), pending.action(), pending.actor(), pending.targetId(), pending.detail())) {
+            rotate();
+            if (!current.append(pending.timestamp(), pending.action(), pending.actor(), pending.targetId(), pending.detail())) {
+                throw new IllegalStateException("Audit record larger than a segment");
+            }
+        }
+        if (System.nanoTime() - lastForce >= fsyncIntervalNanos) {
+            current.force();
+            lastForce = System.nanoTime();
+        }
+    }
+
+    // Runs on the writer thread whenever the queue is empty
+    private void maintain() {
+        current.force();
+        lastForce = System.nanoTime();
+        long now = System.currentTimeMillis();
+        if (now - lastRetentionCheck > TimeUnit.HOURS.toMillis(1)) {
+            lastRetentionCheck = now;
+            deleteExpiredSegments(now);
+        }
+    }
+
+    private void rotate() throws IOException {
+        current.close();
+        current = newSegment();
+        deleteExpiredSegments(System.currentTimeMillis());
+    }
+
+    private AuditSegment newSegment() throws IOException {
+        // Creation time in the name lets queries skip segments outside the requested range without opening them
+        Path path = directory.resolve(String.format("audit-%013d-%05d.seg", System.currentTimeMillis(), System.nanoTime() & 0xFFFF));
+        return AuditSegment.create(path, segmentSize);
+    }
+
+    private void deleteExpiredSegments(long now) {
+        List<Path> segments = segments();
+        // A segment expires once the next one was started before the cutoff; the current segment is always kept
+        for (int i = 0; i + 1 < segments.size(); i++) {
+            if (createdAt(segments.get(i + 1)) >= now - retentionMillis) {
+                break;
+            }
+            try {
+                Files.deleteIfExists(segments.get(i));
+            } catch (IOException e) {
+                log.warn("Failed to delete expired audit segment {}", segments.get(i), e);
+            }
+        }
+    }
+
+    private List<Path> segments() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().matches("audit-\\d+-\\d+\\.seg")).sorted().toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static List<AuditEntry> readSegment(Path segment, long from, long to) {
+        try {
+            return AuditSegment.read(segment, entry -> entry.timestamp().getTime() >= from && entry.timestamp().getTime() <= to);
+        } catch (IOException e) {
+            // Deleted by retention between listing and reading
+            return List.of();
+        }
+    }
+
+    private static long createdAt(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring("audit-".length(), name.indexOf('-', "audit-".length())));
+    }
+
+    private static String currentActor() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null ? "system" : authentication.getName();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+    }
+}
@@ -0,0 +1,192 @@
+package com.editorialhouse.backend.service.audit;
+
+import com.editorialhouse.backend.dto.AuditEntry;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.zip.CRC32C;
+
+/**
+ * One fixed-size, memory-mapped audit file. Records are appended back to back after an 8-byte header:
+ * <pre>
+ *   int   length of the rest of the record
+ *   long  timestamp (epoch millis)
+ *   short action ordinal
+ *   long  target id
+ *   short actor length, actor UTF-8 bytes
+ *   short detail length, detail UTF-8 bytes
+ *   int   CRC32C of everything after the length
+ * </pre>
+ * The unused tail of the file is zero, so a zero length marks the end. The length is written last and every
+ * record carries a checksum, so a reader never mistakes a half-written record for a complete one.
+ */
+final class AuditSegment {
+
+    private static final long MAGIC = 0x4548415544495431L; // "EHAUDIT1"
+    private static final int HEADER_BYTES = Long.BYTES;
+    static final int MAX_DETAIL_BYTES = 4096;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private boolean dirty;
+
+    private AuditSegment(Path path, FileChannel channel, MappedByteBuffer buffer) {
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+
+    static AuditSegment create(Path path, int size) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        buffer.putLong(0, MAGIC);
+        buffer.position(HEADER_BYTES);
+        AuditSegment segment = new AuditSegment(path, channel, buffer);
+        segment.dirty = true;
+        return segment;
+    }
+
+    /**
+     * Maps an existing segment for appending, positioned after its last intact record.
+     */
+    static AuditSegment openForAppend(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+        int end = scan(buffer, entry -> true, null);
+        // Clear whatever a crash left behind the last intact record (pages may reach the disk out of order),
+        // so an old record cannot resurface behind the ones appended from here on
+        int i = end;
+        for (; i + Long.BYTES <= buffer.limit(); i += Long.BYTES) {
+            if (buffer.getLong(i) != 0) {
+                buffer.putLong(i, 0);
+            }
+        }
+        for (; i < buffer.limit(); i++) {
+            buffer.put(i, (byte) 0);
+        }
+        buffer.position(end);
+        return new AuditSegment(path, channel, buffer);
+    }
+
+    Path path() {
+        return path;
+    }
+
+    /**
+     * Appends one record, or returns false if it does not fit and the segment has to be rotated.
+     */
+    boolean append(long timestamp, AuditAction action, String actor, long targetId, String detail) {
+        byte[] actorBytes = truncate(actor == null ? "" : actor, Short.MAX_VALUE);
+        byte[] detailBytes = truncate(detail == null ? "" : detail, MAX_DETAIL_BYTES);
+        int bodyLength = Long.BYTES + Short.BYTES + Long.BYTES + Short.BYTES + actorBytes.length + Short.BYTES + detailBytes.length;
+        int recordLength = Integer.BYTES + bodyLength + Integer.BYTES;
+        int start = buffer.position();
+        if (buffer.remaining() < recordLength + Integer.BYTES) { // Keep room for the terminating zero length
+            return false;
+        }
+        buffer.position(start + Integer.BYTES);
+        buffer.putLong(timestamp);
+        buffer.putShort((short) action.ordinal());
+        buffer.putLong(targetId);
+        buffer.putShort((short) actorBytes.length);
+        buffer.put(actorBytes);
+        buffer.putShort((short) detailBytes.length);
+        buffer.put(detailBytes);
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(start + Integer.BYTES, bodyLength));
+        buffer.putInt((int) crc.getValue());
+        buffer.putInt(start, bodyLength + Integer.BYTES);
+        dirty = true;
+        return true;
+    }
+
+    void force() {
+        if (dirty) {
+            buffer.force();
+            dirty = false;
+        }
+    }
+
+    void close() throws IOException {
+        force();
+        channel.close();
+    }
+
+    /**
+     * Reads the intact records of a segment file that match the filter, in write order.
+     */
+    static List<AuditEntry> read(Path path, Predicate<AuditEntry> filter) throws IOException {
+        List<AuditEntry> entries = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            scan(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), filter, entries);
+        }
+        return entries;
+    }
+
+    // Returns the offset just past the last intact record
+    private static int scan(ByteBuffer buffer, Predicate<AuditEntry> filter, List<AuditEntry> into) {
+        if (buffer.limit() < HEADER_BYTES || buffer.getLong(0) != MAGIC) {
+            throw new IllegalStateException("Not an audit segment");
+        }
+        AuditAction[] actions = AuditAction.values();
+        int position = HEADER_BYTES;
+        while (position + Integer.BYTES <= buffer.limit()) {
+            int length = buffer.getInt(position);
+            int bodyStart = position + Integer.BYTES;
+            if (length <= Integer.BYTES || bodyStart + length > buffer.limit()) {
+                break;
+            }
+            int bodyLength = length - Integer.BYTES;
+            CRC32C crc = new CRC32C();
+            crc.update(buffer.slice(bodyStart, bodyLength));
+            if ((int) crc.getValue() != buffer.getInt(bodyStart + bodyLength)) {
+                break; // Torn write
+            }
+            if (into != null) {
+                ByteBuffer record = buffer.slice(bodyStart, bodyLength);
+                long timestamp = record.getLong();
+                int action = record.getShort();
+                long targetId = record.getLong();
+                String actor = string(record, record.getShort());
+                String detail = string(record, record.getShort() & 0xFFFF);
+                AuditEntry entry = new AuditEntry(new Date(timestamp), action < actions.length ? actions[action] : null, actor, targetId, detail);
+                if (filter.test(entry)) {
+                    into.add(entry);
+                }
+            }
+            position = bodyStart + length;
+        }
+        return position;
+    }
+
+    private static String string(ByteBuffer buffer, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] truncate(String value, int maxBytes) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length <= maxBytes) {
+            return bytes;
+        }
+        // Cut on a character boundary so the stored prefix stays valid UTF-8
+        int end = maxBytes;
+        while (end > 0 && (bytes[end] & 0xC0) == 0x80) {
+            end--;
+        }
+        byte[] truncated = new byte[end];
+        System.arraycopy(bytes, 0, truncated, 0, end);
+        return truncated;
+    }
+}
@@ -0,0 +1,179 @@
+package com.editorialhouse.backend.service.cache;
+
+import com.editorialhouse.backend.event.ArticleCommentedEvent;
+import com.editorialhouse.backend.event.ArticlePublicationChangedEvent;
+import com.editorialhouse.backend.event.ArticleRatedEvent;
+import com.editorialhouse.backend.event.CacheInvalidatedEvent;
+import com.editorialhouse.backend.event.UserChangedEvent;
+import com.editorialhouse.backend.model.cache.CacheInvalidation;
+import com.editorialhouse.backend.model.cache.CacheRegion;
+import com.editorialhouse.backend.repository.cache.CacheInvalidationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Keeps the in-process caches of several nodes in step without a message broker, through the
+ * {@code cache_invalidation} change-log table.
+ * <p>
+ * Every article, interaction and user event is appended to the table by a synchronous listener, so the record
+ * commits or rolls back with the change itself. Each node tails the table by id, skips its own records and
+ * publishes the rest as one {@link CacheInvalidatedEvent} per region, which the caches handle by reloading the
+ * named entities. Staleness on other nodes is bounded by the poll interval.
+ * <p>
+ * Ids are assigned at insert but become visible at commit, so a lower id can appear after a higher one has been
+ * read. Skipped ids are therefore re-checked for {@code gap-timeout-ms} before they are given up as rolled back.
+ */
+@Service
+public class CacheInvalidationBus {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheInvalidationBus.class);
+
+    // Upper bound on tracked gaps, e.g. with auto_increment_increment > 1 every id leaves a permanent gap
+    private static final int MAX_TRACKED_GAPS = 10_000;
+
+    private final CacheInvalidationRepository cacheInvalidationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long gapTimeoutMs;
+    private final long retentionMs;
+    // Random per process, so a restarted node also applies records written by its previous incarnation
+    private final long nodeId = ThreadLocalRandom.current().nextLong();
+
+    // Only touched by the poller
+    private long lastSeenId;
+    private final Map<Long, Long> gaps = new LinkedHashMap<>(); // missing id -> time it was first skipped
+
+    public CacheInvalidationBus(CacheInvalidationRepository cacheInvalidationRepository, ApplicationEventPublisher eventPublisher,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${cache.invalidation.enabled:true}") boolean enabled,
+                                @Value("${cache.invalidation.batch-size:500}") int batchSize,
+                                @Value("${cache.invalidation.gap-timeout-ms:60000}") long gapTimeoutMs,
+                                @Value("${cache.invalidation.retention-minutes:60}") long retentionMinutes) {
+        this.cacheInvalidationRepository = cacheInvalidationRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.gapTimeoutMs = gapTimeoutMs;
+        this.retentionMs = retentionMinutes * 60_000;
+        // Caches are built from the database once the node is ready, so earlier records are already reflected
+        this.lastSeenId = enabled ? cacheInvalidationRepository.findMaxId() : 0;
+    }
+
+    /**
+     * Records a change for the other nodes; joins the caller's transaction if there is one.
+     */
+    public void append(CacheRegion region, Long entityId) {
+        if (enabled) {
+            cacheInvalidationRepository.save(new CacheInvalidation(region, entityId, nodeId));
+        }
+    }
+
+    // == Synchronous listeners, so the record is written inside the publishing transaction
+
+    @EventListener
+    public void onPublicationChanged(ArticlePublicationChangedEvent event) {
+        append(CacheRegion.ARTICLE, event.articleId());
+    }
+
+    @EventListener
+    public void onRated(ArticleRatedEvent event) {
+        append(CacheRegion.ARTICLE_STATS, event.articleId());
+    }
+
+    @EventListener
+    public void onCommented(ArticleCommentedEvent event) {
+        append(CacheRegion.ARTICLE_STATS, event.articleId());
+    }
+
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        append(CacheRegion.USER, event.userId());
+    }
+
+    // == Tailing the change log
+
+    @Scheduled(fixedDelayString = "${cache.invalidation.poll-interval-ms:1000}")
+    public void poll() {
+        if (!enabled) {
+            return;
+        }
+        // Keep going while batches come back full, so a burst is applied without waiting for the next poll
+        Integer fetched;
+        do {
+            fetched = transactionTemplate.execute(status -> pollBatch());
+        } while (fetched != null && fetched == batchSize);
+    }
+
+    // Runs in a read-write transaction, so the caches reload from the primary rather than a lagging replica
+    private int pollBatch() {
+        long now = System.currentTimeMillis();
+        List<CacheInvalidation> records = new ArrayList<>();
+        if (!gaps.isEmpty()) {
+            for (CacheInvalidation late : cacheInvalidationRepository.findByIdIn(gaps.keySet())) {
+                gaps.remove(late.getId());
+                records.add(late);
+            }
+            gaps.values().removeIf(skippedAt -> now - skippedAt > gapTimeoutMs);
+        }
+        List<CacheInvalidation> batch = cacheInvalidationRepository.findAfter(lastSeenId, PageRequest.ofSize(batchSize));
+        for (CacheInvalidation record : batch) {
+            for (long missing = lastSeenId + 1; missing < record.getId() && gaps.size() < MAX_TRACKED_GAPS; missing++) {
+                gaps.put(missing, now);
+            }
+            lastSeenId = record.getId();
+            records.add(record);
+        }
+        apply(records);
+        return batch.size();
+    }
+
+    private void apply(List<CacheInvalidation> records) {
+        Map<CacheRegion, Set<Long>> keys = new EnumMap<>(CacheRegion.class);
+        for (CacheInvalidation record : records) {
+            if (record.getOriginNode() != nodeId) {
+                keys.computeIfAbsent(record.getRegion(), region -> new LinkedHashSet<>()).add(record.getEntityId());
+            }
+        }
+        keys.forEach((region, ids) -> {
+            try {
+                eventPublisher.publishEvent(new CacheInvalidatedEvent(region, ids));
+            } catch (RuntimeException e) {
+                // The records are not retried; the other regions still have to be applied
+                log.warn("Applying {} invalidations of {} failed", ids.size(), region, e);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${cache.invalidation.prune-interval-ms:600000}")
+    public void prune() {
+        if (!enabled) {
+            return;
+        }
+        Date before = new Date(System.currentTimeMillis() - retentionMs);
+        Integer deleted = transactionTemplate.execute(status -> cacheInvalidationRepository.deleteCreatedBefore(before));
+        if (deleted != null && deleted > 0) {
+            log.debug("Pruned {} cache invalidation records", deleted);
+        }
+    }
+}
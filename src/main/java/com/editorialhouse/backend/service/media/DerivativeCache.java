@@ -0,0 +1,103 @@
+package com.editorialhouse.backend.service.media;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Disk-backed LRU cache of generated image derivatives, bounded by the total size of the cached files.
+ * The in-memory index is rebuilt from the directory (oldest modification first) when the node starts.
+ */
+class DerivativeCache {
+
+    private final Path directory;
+    private final long maxBytes;
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes;
+
+    DerivativeCache(Path directory, long maxBytes) {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> files = Files.list(directory)) {
+                files.filter(Files::isRegularFile)
+                        .filter(file -> !file.getFileName().toString().endsWith(".part"))
+                        .sorted(Comparator.comparingLong(DerivativeCache::lastModified))
+                        .forEach(file -> register(file.getFileName().toString(), size(file)));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open derivative cache at " + directory, e);
+        }
+    }
+
+    synchronized Path get(String key) {
+        return entries.get(key) != null ? directory.resolve(key) : null;
+    }
+
+    Path newTempFile() throws IOException {
+        return Files.createTempFile(directory, "derivative-", ".part");
+    }
+
+    /**
+     * Moves a finished temp file into the cache under {@code key} and evicts least recently used entries
+     * until the cache fits its size budget again.
+     */
+    Path put(String key, Path tempFile) throws IOException {
+        Path target = directory.resolve(key);
+        long size = Files.size(tempFile);
+        Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        synchronized (this) {
+            register(key, size);
+        }
+        return target;
+    }
+
+    synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+
+    private void register(String key, long size) {
+        Long previous = entries.put(key, size);
+        totalBytes += size - (previous == null ? 0 : previous);
+        Iterator<Map.Entry<String, Long>> eldest = entries.entrySet().iterator();
+        // Never evict the entry that was just added, even if it alone exceeds the budget
+        while (totalBytes > maxBytes && entries.size() > 1 && eldest.hasNext()) {
+            Map.Entry<String, Long> entry = eldest.next();
+            if (entry.getKey().equals(key)) {
+                continue;
+            }
+            eldest.remove();
+            totalBytes -= entry.getValue();
+            try {
+                // Readers that already opened the file keep streaming it after the unlink
+                Files.deleteIfExists(directory.resolve(entry.getKey()));
+            } catch (IOException ignored) {
+                // The orphaned file is picked up again by the next startup scan
+            }
+        }
+    }
+
+    private static long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static long size(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package com.editorialhouse.backend.service.media;
+
+import com.editorialhouse.backend.model.media.MediaAsset;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates resized thumbnails of uploaded images on a bounded worker pool and keeps them in a
+ * size-limited {@link DerivativeCache}. Widths are restricted to a configured set so that arbitrary
+ * query values cannot fill the cache.
+ */
+@Service
+public class ImageDerivativeService {
+
+    private static final Logger log = LoggerFactory.getLogger(ImageDerivativeService.class);
+    // Content type -> whether an ImageIO reader is installed for it
+    private static final ConcurrentHashMap<String, Boolean> DECODABLE_TYPES = new ConcurrentHashMap<>();
+
+    private final MediaStorageService mediaStorageService;
+    private final DerivativeCache cache;
+    private final int[] widths;
+    private final float jpegQuality;
+    private final ThreadPoolExecutor workers;
+    // Concurrent requests for the same missing derivative share a single resize job
+    private final ConcurrentHashMap<String, CompletableFuture<Path>> inFlight = new ConcurrentHashMap<>();
+
+    public ImageDerivativeService(MediaStorageService mediaStorageService,
+                                  @Value("${media.derivatives.cache-dir:media-store/derivatives}") String cacheDir,
+                                  @Value("${media.derivatives.max-cache-bytes:2147483648}") long maxCacheBytes,
+                                  @Value("${media.derivatives.widths:160,320,640,1280}") int[] widths,
+                                  @Value("${media.derivatives.jpeg-quality:0.82}") float jpegQuality,
+                                  @Value("${media.derivatives.worker-threads:2}") int workerThreads,
+                                  @Value("${media.derivatives.queue-capacity:64}") int queueCapacity) {
+        this.mediaStorageService = mediaStorageService;
+        this.cache = new DerivativeCache(Path.of(cacheDir).toAbsolutePath(), maxCacheBytes);
+        this.widths = Arrays.stream(widths).sorted().toArray();
+        this.jpegQuality = jpegQuality;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(workerThreads, workerThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "image-derivatives-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public static boolean isImage(MediaAsset asset) {
+        return asset.getContentType().startsWith("image/");
+    }
+
+    /**
+     * Whether derivatives can be generated: an image ImageIO can decode. Others, e.g. WebP without a reader
+     * plugin, are only served as uploaded.
+     */
+    public static boolean isResizable(MediaAsset asset) {
+        return isImage(asset) && DECODABLE_TYPES.computeIfAbsent(asset.getContentType(),
+                type -> ImageIO.getImageReadersByMIMEType(type).hasNext());
+    }
+
+    /**
+     * Snaps a requested width to the smallest configured width that is at least as large,
+     * or the largest configured width.
+     */
+    public int snapWidth(int requestedWidth) {
+        for (int width : widths) {
+            if (width >= requestedWidth) {
+                return width;
+            }
+        }
+        return widths[widths.length - 1];
+    }
+
+    public List<Integer> getWidths() {
+        return Arrays.stream(widths).boxed().toList();
+    }
+
+    /**
+     * Returns the cached derivative, or a future that completes once a worker has generated it.
+     * Fails with {@link java.util.concurrent.RejectedExecutionException} when the worker queue is full.
+     */
+    public CompletableFuture<Path> getDerivative(MediaAsset asset, int width) {
+        String key = cacheKey(asset, width);
+        Path cached = cache.get(key);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        CompletableFuture<Path> future = new CompletableFuture<>();
+        CompletableFuture<Path> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            return existing;
+        }
+        try {
+            workers.execute(() -> {
+                try {
+                    future.complete(generate(asset, width, key));
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                } finally {
+                    inFlight.remove(key, future);
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.remove(key, future);
+            throw e;
+        }
+        return future;
+    }
+
+    /**
+     * Queues all configured sizes of a freshly uploaded image. Silently skips sizes the pool has no room for;
+     * they are generated on first request instead.
+     */
+    public void pregenerate(MediaAsset asset) {
+        if (!isResizable(asset)) {
+            return;
+        }
+        for (int width : widths) {
+            try {
+                getDerivative(asset, width);
+            } catch (RuntimeException e) {
+                return;
+            }
+        }
+    }
+
+    public String contentType(MediaAsset asset) {
+        return outputFormat(asset).equals("png") ? "image/png" : "image/jpeg";
+    }
+
+    private Path generate(MediaAsset asset, int width, String key) throws IOException {
+        Path cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        BufferedImage source = read(mediaStorageService.resolve(asset), width);
+        BufferedImage resized = resize(source, width, outputFormat(asset).equals("png"));
+        Path tempFile = cache.newTempFile();
+        try {
+            write(resized, outputFormat(asset), tempFile);
+            return cache.put(key, tempFile);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private BufferedImage read(Path file, int targetWidth) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(file.toFile())) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new IllegalArgumentException("Unsupported image format");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                // Decode large originals subsampled so a 6000px photo never lands in the heap at full size
+                int subsampling = Math.max(1, reader.getWidth(0) / (targetWidth * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static BufferedImage resize(BufferedImage source, int targetWidth, boolean keepAlpha) {
+        int type = keepAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage current = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+        targetWidth = Math.min(targetWidth, currentWidth); // Never upscale
+        // Halve repeatedly before the final step; a single bilinear pass over a large ratio looks aliased
+        do {
+            int nextWidth = Math.max(currentWidth / 2, targetWidth);
+            int nextHeight = Math.max(1, (int) Math.round((double) currentHeight * nextWidth / currentWidth));
+            BufferedImage next = new BufferedImage(nextWidth, nextHeight, type);
+            Graphics2D graphics = next.createGraphics();
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(current, 0, 0, nextWidth, nextHeight, null);
+            graphics.dispose();
+            current = next;
+            currentWidth = nextWidth;
+            currentHeight = nextHeight;
+        } while (currentWidth > targetWidth);
+        return current;
+    }
+
+    private void write(BufferedImage image, String format, Path target) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(format).next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(target.toFile())) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (format.equals("jpeg")) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(jpegQuality);
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private static String outputFormat(MediaAsset asset) {
+        // PNG and GIF may carry transparency, everything else is re-encoded as JPEG
+        String contentType = asset.getContentType();
+        return contentType.startsWith("image/png") || contentType.startsWith("image/gif") ? "png" : "jpeg";
+    }
+
+    private static String cacheKey(MediaAsset asset, int width) {
+        return asset.getSha256() + "-w" + width + "." + (outputFormat(asset).equals("png") ? "png" : "jpg");
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        workers.shutdown();
+        if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("Image derivative workers did not finish within 10 seconds");
+            workers.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.editorialhouse.backend.service.media;
+
+import java.util.Set;
+
+/**
+ * Media types recognised from the leading bytes of an upload. The Content-Type a client declares is not trusted: media
+ * is served publicly from our own origin, so an SVG or HTML file labelled as an image would run script there.
+ * Only raster images, audio and video are recognised.
+ */
+public final class MediaSignatures {
+
+    // Enough for every signature below, including the first Ogg page header and its segment table
+    static final int HEADER_LENGTH = 64;
+
+    private static final Set<String> INLINE_TYPES = Set.of(
+            "image/jpeg", "image/png", "image/gif", "image/webp",
+            "audio/mpeg", "audio/mp4", "audio/ogg", "audio/wav", "audio/flac",
+            "video/mp4", "video/quicktime", "video/webm", "video/ogg");
+
+    private MediaSignatures() {
+    }
+
+    /**
+     * The media type of a file starting with {@code header}, or null when it is not a supported format.
+     */
+    public static String detect(byte[] header) {
+        if (startsWith(header, 0, 0xFF, 0xD8, 0xFF)) {
+            return "image/jpeg";
+        }
+        if (startsWith(header, 0, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A)) {
+            return "image/png";
+        }
+        if (startsWith(header, 0, "GIF87a") || startsWith(header, 0, "GIF89a")) {
+            return "image/gif";
+        }
+        if (startsWith(header, 0, "RIFF")) {
+            return startsWith(header, 8, "WEBP") ? "image/webp" : startsWith(header, 8, "WAVE") ? "audio/wav" : null;
+        }
+        if (startsWith(header, 4, "ftyp")) {
+            // ISO base media: the major brand tells audio-only and QuickTime files apart
+            return startsWith(header, 8, "M4A ") ? "audio/mp4" : startsWith(header, 8, "qt  ") ? "video/quicktime" : "video/mp4";
+        }
+        if (startsWith(header, 0, 0x1A, 0x45, 0xDF, 0xA3)) {
+            return "video/webm";
+        }
+        if (startsWith(header, 0, "OggS")) {
+            // The first packet follows the 27-byte page header and its segment table
+            return header.length > 26 && startsWith(header, 27 + (header[26] & 0xFF), 0x80, 't', 'h', 'e', 'o', 'r', 'a')
+                    ? "video/ogg" : "audio/ogg";
+        }
+        if (startsWith(header, 0, "fLaC")) {
+            return "audio/flac";
+        }
+        // MP3: an ID3v2 tag or an MPEG audio frame sync
+        if (startsWith(header, 0, "ID3") || (header.length > 1 && (header[0] & 0xFF) == 0xFF && (header[1] & 0xE0) == 0xE0)) {
+            return "audio/mpeg";
+        }
+        return null;
+    }
+
+    /**
+     * Whether a stored type is safe to render inline. Assets stored before uploads were sniffed may have other
+     * declared types, which are only served as downloads.
+     */
+    public static boolean isInline(String contentType) {
+        return contentType != null && INLINE_TYPES.contains(contentType);
+    }
+
+    private static boolean startsWith(byte[] header, int offset, String signature) {
+        return startsWith(header, offset, signature.chars().toArray());
+    }
+
+    private static boolean startsWith(byte[] header, int offset, int... signature) {
+        if (header.length < offset + signature.length) {
+            return false;
+        }
+        for (int i = 0; i < signature.length; i++) {
+            if ((header[offset + i] & 0xFF) != signature[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,134 @@
+package com.editorialhouse.backend.service.media;
+
+import com.editorialhouse.backend.model.media.MediaAsset;
+import com.editorialhouse.backend.repository.media.MediaAssetRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * Content-addressed media store on the local filesystem. Files live under
+ * {@code <root>/<hash[0..2]>/<hash[2..4]>/<hash>} and are never modified once written.
+ */
+@Service
+public class MediaStorageService {
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private final MediaAssetRepository mediaAssetRepository;
+    private final Path root;
+    private final Path tempDirectory;
+    private final long maxUploadSize;
+
+    public MediaStorageService(MediaAssetRepository mediaAssetRepository,
+                               @Value("${media.storage.root:media-store}") String root,
+                               @Value("${media.storage.max-upload-size:1073741824}") long maxUploadSize) throws IOException {
+        this.mediaAssetRepository = mediaAssetRepository;
+        this.root = Path.of(root).toAbsolutePath();
+        // Temp files share the store's filesystem so that finished uploads are moved atomically
+        this.tempDirectory = Files.createDirectories(this.root.resolve("tmp"));
+        this.maxUploadSize = maxUploadSize;
+    }
+
+    /**
+     * Streams the upload to a temp file while hashing it, then either adopts it as a new asset or discards it
+     * in favour of an existing asset with the same content. The stored type is sniffed from the leading bytes;
+     * the declared one is only reported back when the upload is rejected.
+     */
+    public MediaAsset store(InputStream body, String declaredContentType, Long uploaderId) {
+        Path tempFile = null;
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            InputStream in = new DigestInputStream(body, digest);
+            byte[] header = in.readNBytes(MediaSignatures.HEADER_LENGTH);
+            String contentType = MediaSignatures.detect(header);
+            if (contentType == null) {
+                throw new IllegalArgumentException("Unsupported media type: " + declaredContentType
+                        + ". Only JPEG, PNG, GIF and WebP images, audio and video are accepted.");
+            }
+
+            tempFile = Files.createTempFile(tempDirectory, "upload-", ".part");
+            long size = copyBounded(new SequenceInputStream(new ByteArrayInputStream(header), in), tempFile);
+            String sha256 = HexFormat.of().formatHex(digest.digest());
+
+            Optional<MediaAsset> existing = mediaAssetRepository.findBySha256(sha256);
+            if (existing.isPresent()) {
+                return existing.get();
+            }
+
+            String relativePath = sha256.substring(0, 2) + "/" + sha256.substring(2, 4) + "/" + sha256;
+            Path target = root.resolve(relativePath);
+            Files.createDirectories(target.getParent());
+            try {
+                Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE);
+                tempFile = null;
+            } catch (FileAlreadyExistsException e) {
+                // A concurrent upload of the same content won the race; its file is byte-identical
+            }
+
+            MediaAsset asset = new MediaAsset();
+            asset.setSha256(sha256);
+            asset.setContentType(contentType);
+            asset.setSize(size);
+            asset.setStoragePath(relativePath);
+            asset.setUploaderId(uploaderId);
+            try {
+                return mediaAssetRepository.save(asset);
+            } catch (DataIntegrityViolationException e) {
+                return mediaAssetRepository.findBySha256(sha256).orElseThrow(() -> e);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to store media upload", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            if (tempFile != null) {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } catch (IOException ignored) {
+                    // A leftover temp file only wastes disk space
+                }
+            }
+        }
+    }
+
+    public Optional<MediaAsset> findByHash(String sha256) {
+        return mediaAssetRepository.findBySha256(sha256);
+    }
+
+    public Path resolve(MediaAsset asset) {
+        return root.resolve(asset.getStoragePath());
+    }
+
+    private long copyBounded(InputStream in, Path target) throws IOException {
+        byte[] buffer = new byte[COPY_BUFFER_SIZE];
+        long total = 0;
+        try (OutputStream out = Files.newOutputStream(target)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                total += read;
+                if (total > maxUploadSize) {
+                    throw new IllegalArgumentException("Upload exceeds the maximum size of " + maxUploadSize + " bytes.");
+                }
+                out.write(buffer, 0, read);
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,212 @@
+package com.editorialhouse.backend.service.moderation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Screens user-written text (comments, report reasons) against a blocklist on the write path.
+ * <p>
+ * The blocklist is a UTF-8 file with one term or phrase per line: {@code !term} holds the text for a moderator,
+ * a plain term only flags it, and a trailing {@code *} also matches words that start with the term. Lines starting
+ * with {@code #} are comments. The file is re-read when it changes, and all terms are compiled into one
+ * {@link PatternAutomaton}, so checking a comment costs one pass over its text regardless of the list size.
+ * <p>
+ * Text and terms are normalized the same way: accents are stripped, letters lowercased, common character
+ * substitutions ({@code 4 -> a}, {@code $ -> s}, ...) undone and any run of other characters collapsed into a
+ * single space. Terms only match whole words, so a short term does not match inside a longer, harmless word.
+ */
+@Service
+public class ContentFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(ContentFilter.class);
+
+    // A result names at most this many matched terms
+    private static final int MAX_REPORTED_TERMS = 10;
+
+    public enum Verdict {
+        ALLOW,
+        FLAG,
+        HOLD
+    }
+
+    public record Result(Verdict verdict, List<String> terms) {
+
+        static final Result ALLOWED = new Result(Verdict.ALLOW, List.of());
+
+        public boolean matched() {
+            return verdict != Verdict.ALLOW;
+        }
+    }
+
+    private record Blocklist(PatternAutomaton automaton, String[] terms, boolean[] hold, boolean[] prefix,
+                             long modified, long size) {
+    }
+
+    private static final Blocklist EMPTY = new Blocklist(null, new String[0], new boolean[0], new boolean[0], -1, -1);
+
+    private final Path path;
+    private final boolean enabled;
+    private volatile Blocklist blocklist = EMPTY;
+
+    public ContentFilter(@Value("${moderation.blocklist.path:moderation-blocklist.txt}") String path,
+                         @Value("${moderation.enabled:true}") boolean enabled) {
+        this.path = Path.of(path).toAbsolutePath();
+        this.enabled = enabled;
+        if (enabled) {
+            // A missing list would silently let everything through; only a later removal is tolerated
+            if (!Files.isRegularFile(this.path)) {
+                throw new IllegalStateException("Moderation is enabled but the blocklist " + this.path
+                        + " does not exist; provide it or set moderation.enabled=false");
+            }
+            reloadIfChanged();
+        }
+    }
+
+    public Result check(String text) {
+        Blocklist current = blocklist;
+        if (!enabled || current.automaton() == null || text == null || text.isEmpty()) {
+            return Result.ALLOWED;
+        }
+        char[] normalized = normalize(text);
+        int length = normalized.length;
+        Set<String> terms = new LinkedHashSet<>();
+        boolean[] hold = {false};
+        current.automaton().scan(normalized, length, (pattern, start, end) -> {
+            boolean wordStart = start == 0 || normalized[start - 1] == ' ';
+            boolean wordEnd = end == length || normalized[end] == ' ' || current.prefix()[pattern];
+            if (wordStart && wordEnd) {
+                hold[0] |= current.hold()[pattern];
+                if (terms.size() < MAX_REPORTED_TERMS) {
+                    terms.add(current.terms()[pattern]);
+                }
+            }
+            // Keep scanning only while a more severe or another reportable match can still change the result
+            return !hold[0] || terms.size() < MAX_REPORTED_TERMS;
+        });
+        if (terms.isEmpty()) {
+            return Result.ALLOWED;
+        }
+        return new Result(hold[0] ? Verdict.HOLD : Verdict.FLAG, List.copyOf(terms));
+    }
+
+    public int getTermCount() {
+        return blocklist.terms().length;
+    }
+
+    @Scheduled(fixedDelayString = "${moderation.blocklist.reload-interval-ms:10000}")
+    public void reloadIfChanged() {
+        if (!enabled) {
+            return;
+        }
+        Blocklist current = blocklist;
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            long modified = attributes.lastModifiedTime().toMillis();
+            if (modified == current.modified() && attributes.size() == current.size()) {
+                return;
+            }
+            blocklist = load(Files.readAllLines(path, StandardCharsets.UTF_8), modified, attributes.size());
+            log.info("Loaded {} blocklist terms from {}", blocklist.terms().length, path);
+        } catch (NoSuchFileException e) {
+            if (current != EMPTY) {
+                log.warn("Blocklist {} was removed, content filtering is off until it is restored", path);
+                blocklist = EMPTY;
+            }
+        } catch (IOException | RuntimeException e) {
+            // Keep filtering with the previous list rather than letting everything through
+            log.warn("Failed to reload blocklist {}, keeping the previous {} terms", path, current.terms().length, e);
+        }
+    }
+
+    private static Blocklist load(List<String> lines, long modified, long size) {
+        // Normalized term -> {hold, prefix}; a term listed twice keeps the stricter settings
+        Map<String, boolean[]> entries = new LinkedHashMap<>();
+        for (String line : lines) {
+            String entry = line.strip();
+            if (entry.isEmpty() || entry.startsWith("#")) {
+                continue;
+            }
+            boolean hold = entry.startsWith("!");
+            if (hold) {
+                entry = entry.substring(1);
+            }
+            boolean prefix = entry.endsWith("*");
+            if (prefix) {
+                entry = entry.substring(0, entry.length() - 1);
+            }
+            String term = new String(normalize(entry)).strip();
+            if (term.isEmpty()) {
+                continue;
+            }
+            boolean[] flags = entries.computeIfAbsent(term, t -> new boolean[2]);
+            flags[0] |= hold;
+            flags[1] |= prefix;
+        }
+        if (entries.isEmpty()) {
+            return new Blocklist(null, new String[0], new boolean[0], new boolean[0], modified, size);
+        }
+        String[] terms = entries.keySet().toArray(String[]::new);
+        boolean[] hold = new boolean[terms.length];
+        boolean[] prefix = new boolean[terms.length];
+        List<char[]> patterns = new ArrayList<>(terms.length);
+        for (int i = 0; i < terms.length; i++) {
+            boolean[] flags = entries.get(terms[i]);
+            hold[i] = flags[0];
+            prefix[i] = flags[1];
+            patterns.add(terms[i].toCharArray());
+        }
+        return new Blocklist(PatternAutomaton.build(patterns), terms, hold, prefix, modified, size);
+    }
+
+    static char[] normalize(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        char[] out = new char[decomposed.length()];
+        int length = 0;
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            c = unsubstitute(c);
+            if (Character.isLetterOrDigit(c)) {
+                out[length++] = Character.toLowerCase(c);
+            } else if (length > 0 && out[length - 1] != ' ') {
+                out[length++] = ' ';
+            }
+        }
+        if (length > 0 && out[length - 1] == ' ') {
+            length--;
+        }
+        return length == out.length ? out : Arrays.copyOf(out, length);
+    }
+
+    private static char unsubstitute(char c) {
+        return switch (c) {
+            case '0' -> 'o';
+            case '1' -> 'i';
+            case '3' -> 'e';
+            case '4', '@' -> 'a';
+            case '5', '$' -> 's';
+            case '7' -> 't';
+            default -> c;
+        };
+    }
+}
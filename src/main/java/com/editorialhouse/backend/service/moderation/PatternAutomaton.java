@@ -0,0 +1,191 @@
+package com.editorialhouse.backend.service.moderation;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Aho–Corasick automaton over normalized text: all patterns are found in one left-to-right pass, in time linear
+ * in the text length plus the number of matches, however many patterns there are.
+ * <p>
+ * After construction the trie is flattened into arrays (edges of a state are a sorted slice searched by binary
+ * search, the root gets a direct lookup table) so a list of a few hundred thousand terms stays compact and the
+ * instance can be shared by any number of threads.
+ */
+final class PatternAutomaton {
+
+    // Direct root transitions for the characters that start almost every word
+    private static final int ROOT_TABLE_SIZE = 128;
+
+    interface MatchVisitor {
+        /**
+         * Called for every pattern ending at {@code end} (exclusive); return {@code false} to stop the scan.
+         */
+        boolean visit(int pattern, int start, int end);
+    }
+
+    private final int[] edgeStart;   // state -> first index into edgeChars/edgeTarget, length states + 1
+    private final char[] edgeChars;
+    private final int[] edgeTarget;
+    private final int[] rootTable;
+    private final int[] fail;
+    private final int[] output;      // state -> pattern ending here, or -1
+    private final int[] outputLink;  // state -> nearest state on the fail chain with an output, or -1
+    private final int[] patternLength;
+
+    private PatternAutomaton(int[] edgeStart, char[] edgeChars, int[] edgeTarget, int[] rootTable, int[] fail,
+                             int[] output, int[] outputLink, int[] patternLength) {
+        this.edgeStart = edgeStart;
+        this.edgeChars = edgeChars;
+        this.edgeTarget = edgeTarget;
+        this.rootTable = rootTable;
+        this.fail = fail;
+        this.output = output;
+        this.outputLink = outputLink;
+        this.patternLength = patternLength;
+    }
+
+    /**
+     * Builds the automaton; pattern {@code i} is reported as index {@code i}. Empty and duplicate patterns
+     * must already have been removed.
+     */
+    static PatternAutomaton build(List<char[]> patterns) {
+        int[] patternLength = new int[patterns.size()];
+        int totalLength = 0;
+        for (int p = 0; p < patterns.size(); p++) {
+            patternLength[p] = patterns.get(p).length;
+            totalLength += patternLength[p];
+        }
+
+        // 1. Trie from the sorted patterns: each pattern shares exactly its common prefix with the previous one,
+        //    so new states are appended without looking up any existing edge
+        Integer[] order = new Integer[patterns.size()];
+        for (int p = 0; p < order.length; p++) {
+            order[p] = p;
+        }
+        Arrays.sort(order, (a, b) -> Arrays.compare(patterns.get(a), patterns.get(b)));
+        int[] edgeParent = new int[totalLength];
+        char[] edgeChar = new char[totalLength];
+        int[] output = new int[totalLength + 1];
+        Arrays.fill(output, -1);
+        int[] path = new int[Arrays.stream(patternLength).max().orElse(0) + 1];
+        char[] previous = new char[0];
+        int states = 1;
+        for (int p : order) {
+            char[] pattern = patterns.get(p);
+            int common = Arrays.mismatch(previous, pattern);
+            common = common < 0 ? pattern.length : common;
+            for (int depth = common; depth < pattern.length; depth++) {
+                int state = states++;
+                edgeParent[state - 1] = path[depth];
+                edgeChar[state - 1] = pattern[depth];
+                path[depth + 1] = state;
+            }
+            output[path[pattern.length]] = p;
+            previous = pattern;
+        }
+
+        // 2. Group the edges by parent state (each state s > 0 is the target of edge s - 1); within a parent they
+        //    were created in ascending character order
+        int edges = states - 1;
+        int[] edgeStart = new int[states + 1];
+        for (int e = 0; e < edges; e++) {
+            edgeStart[edgeParent[e] + 1]++;
+        }
+        for (int s = 0; s < states; s++) {
+            edgeStart[s + 1] += edgeStart[s];
+        }
+        int[] fill = Arrays.copyOf(edgeStart, states);
+        char[] edgeChars = new char[edges];
+        int[] edgeTarget = new int[edges];
+        for (int e = 0; e < edges; e++) {
+            int i = fill[edgeParent[e]]++;
+            edgeChars[i] = edgeChar[e];
+            edgeTarget[i] = e + 1;
+        }
+        output = Arrays.copyOf(output, states);
+
+        int[] rootTable = new int[ROOT_TABLE_SIZE];
+        for (int i = edgeStart[0]; i < edgeStart[1] && edgeChars[i] < ROOT_TABLE_SIZE; i++) {
+            rootTable[edgeChars[i]] = edgeTarget[i];
+        }
+
+        // 3. Fail and output links, breadth-first so that shorter suffixes are resolved first
+        int[] fail = new int[states];
+        int[] outputLink = new int[states];
+        Arrays.fill(outputLink, -1);
+        PatternAutomaton automaton = new PatternAutomaton(edgeStart, edgeChars, edgeTarget, rootTable, fail, output, outputLink, patternLength);
+        int[] queue = new int[states];
+        int head = 0;
+        int tail = 0;
+        for (int i = edgeStart[0]; i < edgeStart[1]; i++) {
+            queue[tail++] = edgeTarget[i];
+        }
+        while (head < tail) {
+            int state = queue[head++];
+            for (int i = edgeStart[state]; i < edgeStart[state + 1]; i++) {
+                int child = edgeTarget[i];
+                fail[child] = automaton.next(fail[state], edgeChars[i]);
+                int suffix = fail[child];
+                outputLink[child] = output[suffix] >= 0 ? suffix : outputLink[suffix];
+                queue[tail++] = child;
+            }
+        }
+        return automaton;
+    }
+
+    void scan(char[] text, int length, MatchVisitor visitor) {
+        int state = 0;
+        for (int i = 0; i < length; i++) {
+            state = next(state, text[i]);
+            for (int s = output[state] >= 0 ? state : outputLink[state]; s >= 0; s = outputLink[s]) {
+                int pattern = output[s];
+                if (!visitor.visit(pattern, i + 1 - patternLength[pattern], i + 1)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    int states() {
+        return fail.length;
+    }
+
+    // Follows fail links until some state has an edge for c; the root absorbs anything else
+    private int next(int state, char c) {
+        while (true) {
+            int target = state == 0 ? rootEdge(c) : edge(state, c);
+            if (target >= 0) {
+                return target;
+            }
+            if (state == 0) {
+                return 0;
+            }
+            state = fail[state];
+        }
+    }
+
+    private int rootEdge(char c) {
+        if (c < ROOT_TABLE_SIZE) {
+            int target = rootTable[c];
+            return target == 0 ? -1 : target;
+        }
+        return edge(0, c);
+    }
+
+    private int edge(int state, char c) {
+        int low = edgeStart[state];
+        int high = edgeStart[state + 1] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char midChar = edgeChars[mid];
+            if (midChar < c) {
+                low = mid + 1;
+            } else if (midChar > c) {
+                high = mid - 1;
+            } else {
+                return edgeTarget[mid];
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,56 @@
+package com.editorialhouse.backend.service.notification;
+
+import com.editorialhouse.backend.model.notification.OutboxMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Appends each delivered notification as one JSON line to a local file. Meant for development and tests,
+ * where it stands in for real delivery channels.
+ */
+@Component
+@ConditionalOnProperty(name = "notifications.file-sink.enabled", havingValue = "true", matchIfMissing = true)
+public class FileNotificationSink implements NotificationSink {
+
+    private static final Logger log = LoggerFactory.getLogger(FileNotificationSink.class);
+
+    private final Path file;
+    private final ObjectMapper objectMapper;
+
+    public FileNotificationSink(@Value("${notifications.file-sink.path:notifications.log}") String file, ObjectMapper objectMapper) {
+        this.file = Path.of(file).toAbsolutePath();
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public synchronized void deliver(List<OutboxMessage> messages) throws IOException {
+        Files.createDirectories(file.getParent());
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (OutboxMessage message : messages) {
+                Map<String, Object> line = new LinkedHashMap<>();
+                line.put("id", message.getId());
+                line.put("type", message.getType());
+                line.put("recipientId", message.getRecipientId());
+                line.put("payload", objectMapper.readTree(message.getPayload()));
+                line.put("createdAt", message.getCreationDate());
+                writer.write(objectMapper.writeValueAsString(line));
+                writer.write('\n');
+            }
+        }
+        log.info("Delivered {} notifications to {}", messages.size(), file);
+    }
+}
@@ -0,0 +1,46 @@
+package com.editorialhouse.backend.service.notification;
+
+import com.editorialhouse.backend.model.notification.OutboxMessage;
+import com.editorialhouse.backend.repository.notification.OutboxMessageRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+/**
+ * Records notifications in the outbox table. Must be called inside the transaction of the change being
+ * announced: the message is committed (or rolled back) together with it and delivered afterwards by
+ * {@link OutboxDispatcher}, so workflow calls never wait for delivery.
+ */
+@Service
+public class NotificationOutbox {
+
+    public static final String ARTICLE_APPROVED = "ARTICLE_APPROVED";
+    public static final String ARTICLE_REJECTED = "ARTICLE_REJECTED";
+    public static final String ARTICLE_PUBLISHED = "ARTICLE_PUBLISHED";
+    public static final String REPORT_REVIEWED = "REPORT_REVIEWED";
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final ObjectMapper objectMapper;
+
+    public NotificationOutbox(OutboxMessageRepository outboxMessageRepository, ObjectMapper objectMapper) {
+        this.outboxMessageRepository = outboxMessageRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(String type, Long recipientId, Map<String, ?> payload) {
+        OutboxMessage message = new OutboxMessage();
+        message.setType(type);
+        message.setRecipientId(recipientId);
+        try {
+            message.setPayload(objectMapper.writeValueAsString(payload));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Notification payload is not serializable", e);
+        }
+        outboxMessageRepository.save(message);
+    }
+}
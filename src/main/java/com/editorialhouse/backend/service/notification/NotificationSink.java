@@ -0,0 +1,16 @@
+package com.editorialhouse.backend.service.notification;
+
+import com.editorialhouse.backend.model.notification.OutboxMessage;
+
+import java.util.List;
+
+/**
+ * A delivery channel for outbox messages (e-mail, push, webhook, ...). Every sink bean receives every batch.
+ * <p>
+ * Delivery is at-least-once: a batch that throws is retried one message at a time, and messages that still fail
+ * are retried later on their own, so sinks should tolerate seeing a message again (the message id is stable).
+ */
+public interface NotificationSink {
+
+    void deliver(List<OutboxMessage> messages) throws Exception;
+}
@@ -0,0 +1,145 @@
+package com.editorialhouse.backend.service.notification;
+
+import com.editorialhouse.backend.model.notification.OutboxMessage;
+import com.editorialhouse.backend.repository.notification.OutboxMessageRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Drains the notification outbox in batches and hands each batch to every {@link NotificationSink}.
+ * <p>
+ * A batch is claimed with {@code SELECT ... FOR UPDATE SKIP LOCKED} in a short transaction that leases the messages
+ * by moving their {@code availableAt} past {@code lease-ms}, so the row locks are released before any sink runs and
+ * other nodes skip the leased messages. Each message is then deleted or rescheduled on its own: a failed message is
+ * retried with exponential backoff and jitter, and after {@code max-attempts} it is parked as FAILED for inspection.
+ * A node that dies mid-delivery leaves its messages to be claimed again once the lease runs out.
+ */
+@Service
+public class OutboxDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final List<NotificationSink> sinks;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+    private final long maxBackoffMs;
+    private final long leaseMs;
+
+    public OutboxDispatcher(OutboxMessageRepository outboxMessageRepository, List<NotificationSink> sinks, PlatformTransactionManager transactionManager,
+                            @Value("${notifications.outbox.batch-size:100}") int batchSize,
+                            @Value("${notifications.outbox.max-attempts:10}") int maxAttempts,
+                            @Value("${notifications.outbox.initial-backoff-ms:1000}") long initialBackoffMs,
+                            @Value("${notifications.outbox.max-backoff-ms:600000}") long maxBackoffMs,
+                            @Value("${notifications.outbox.lease-ms:300000}") long leaseMs) {
+        this.outboxMessageRepository = outboxMessageRepository;
+        this.sinks = sinks;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMs = initialBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.leaseMs = leaseMs;
+    }
+
+    @Scheduled(fixedDelayString = "${notifications.outbox.poll-interval-ms:1000}")
+    public void dispatch() {
+        if (sinks.isEmpty()) {
+            return;
+        }
+        // Keep going while batches come back full, so a backlog drains without waiting for the next poll
+        int claimed;
+        do {
+            claimed = dispatchBatch();
+        } while (claimed == batchSize);
+    }
+
+    private int dispatchBatch() {
+        List<OutboxMessage> batch = transactionTemplate.execute(status -> claim(new Date()));
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+        Map<Long, Exception> failures = deliver(batch);
+        transactionTemplate.executeWithoutResult(status -> complete(batch, failures));
+        return batch.size();
+    }
+
+    // The attempt is counted when it starts, so a message that brings the node down is still parked eventually
+    private List<OutboxMessage> claim(Date now) {
+        List<OutboxMessage> batch = outboxMessageRepository.claimBatch(OutboxMessage.Status.PENDING, now, PageRequest.ofSize(batchSize));
+        Date leaseExpiry = new Date(now.getTime() + leaseMs);
+        for (OutboxMessage message : batch) {
+            message.setAttempts(message.getAttempts() + 1);
+            message.setAvailableAt(leaseExpiry);
+        }
+        return batch;
+    }
+
+    // Runs outside any transaction. When a sink rejects the batch, it is retried one message at a time, so only
+    // the messages that fail on their own are held back; those are not offered to the remaining sinks this round.
+    private Map<Long, Exception> deliver(List<OutboxMessage> batch) {
+        Map<Long, Exception> failures = new HashMap<>();
+        for (NotificationSink sink : sinks) {
+            List<OutboxMessage> remaining = batch.stream().filter(message -> !failures.containsKey(message.getId())).toList();
+            if (remaining.isEmpty()) {
+                break;
+            }
+            try {
+                sink.deliver(remaining);
+            } catch (Exception e) {
+                for (OutboxMessage message : remaining) {
+                    try {
+                        sink.deliver(List.of(message));
+                    } catch (Exception single) {
+                        failures.put(message.getId(), single);
+                    }
+                }
+            }
+        }
+        return failures;
+    }
+
+    private void complete(List<OutboxMessage> batch, Map<Long, Exception> failures) {
+        List<Long> delivered = batch.stream().map(OutboxMessage::getId).filter(id -> !failures.containsKey(id)).toList();
+        if (!delivered.isEmpty()) {
+            outboxMessageRepository.deleteAllByIdInBatch(delivered);
+        }
+        if (failures.isEmpty()) {
+            return;
+        }
+        log.warn("Delivering {} of {} notifications failed, will retry", failures.size(), batch.size(),
+                failures.values().iterator().next());
+        // Rows are re-read: if a lease ran out, another node may already have delivered and deleted the message
+        Date now = new Date();
+        for (OutboxMessage message : outboxMessageRepository.findAllById(failures.keySet())) {
+            reschedule(message, failures.get(message.getId()), now);
+        }
+    }
+
+    private void reschedule(OutboxMessage message, Exception error, Date now) {
+        message.setLastError(String.valueOf(error));
+        if (message.getAttempts() >= maxAttempts) {
+            message.setStatus(OutboxMessage.Status.FAILED);
+            log.error("Notification {} ({}) failed {} times and was parked", message.getId(), message.getType(), message.getAttempts());
+            return;
+        }
+        long backoff = Math.min(maxBackoffMs, initialBackoffMs << Math.min(message.getAttempts() - 1, 30));
+        // Jitter spreads retries of a large failed backlog instead of hitting the recovered sink all at once
+        backoff = backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+        message.setAvailableAt(new Date(now.getTime() + backoff));
+    }
+}
@@ -0,0 +1,131 @@
+package com.editorialhouse.backend.benchmark;
+
+import com.editorialhouse.backend.model.Privilege;
+import com.editorialhouse.backend.model.Role;
+import com.editorialhouse.backend.model.User;
+import com.editorialhouse.backend.model.article.Article;
+import com.editorialhouse.backend.model.article.ArticleStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializing a page of published articles the way the feed and batch endpoints do: the previous reflection-based
+ * JSON mapper against the Blackbird-backed JSON, CBOR and Smile mappers. Payload sizes are printed once per fork.
+ * <p>
+ * Run with {@code mvn test-compile exec:exec -Pbenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ArticleSerializationBenchmark {
+
+    @Param({"20", "200"})
+    int articleCount;
+
+    private List<Article> articles;
+    private ObjectMapper jsonReflection;
+    private ObjectMapper jsonBlackbird;
+    private ObjectMapper cborBlackbird;
+    private ObjectMapper smileBlackbird;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        articles = articles(articleCount);
+        jsonReflection = mapper(new ObjectMapper(), false);
+        jsonBlackbird = mapper(new ObjectMapper(), true);
+        cborBlackbird = mapper(new ObjectMapper(new CBORFactory()), true);
+        smileBlackbird = mapper(new ObjectMapper(new SmileFactory()), true);
+        System.out.printf("%n%d articles: json %d bytes, cbor %d bytes, smile %d bytes%n", articleCount,
+                jsonBlackbird.writeValueAsBytes(articles).length,
+                cborBlackbird.writeValueAsBytes(articles).length,
+                smileBlackbird.writeValueAsBytes(articles).length);
+    }
+
+    @Benchmark
+    public byte[] jsonReflection() throws Exception {
+        return jsonReflection.writeValueAsBytes(articles);
+    }
+
+    @Benchmark
+    public byte[] jsonBlackbird() throws Exception {
+        return jsonBlackbird.writeValueAsBytes(articles);
+    }
+
+    @Benchmark
+    public byte[] cborBlackbird() throws Exception {
+        return cborBlackbird.writeValueAsBytes(articles);
+    }
+
+    @Benchmark
+    public byte[] smileBlackbird() throws Exception {
+        return smileBlackbird.writeValueAsBytes(articles);
+    }
+
+    // Dates as ISO strings, as with Boot's defaults
+    private static ObjectMapper mapper(ObjectMapper mapper, boolean blackbird) {
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if (blackbird) {
+            mapper.registerModule(new BlackbirdModule());
+        }
+        return mapper;
+    }
+
+    private static List<Article> articles(int count) {
+        Random random = new Random(42);
+        Privilege write = new Privilege("WRITE_PRIVILEGE");
+        Privilege read = new Privilege("READ_PRIVILEGE");
+        Role clerk = new Role("CLERK");
+        clerk.setPrivileges(Set.of(write, read));
+        List<User> authors = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            User author = new User("author" + i, "{bcrypt}$2a$10$" + "x".repeat(53), "Author Number " + i,
+                    "Journalist", "default_user.png", new Date());
+            author.setId((long) i);
+            author.setRoles(Set.of(clerk));
+            author.setCustomPrivileges(Set.of());
+            authors.add(author);
+        }
+        String[] words = {"the", "editorial", "house", "published", "report", "council", "market", "season", "city", "review"};
+        List<Article> articles = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            StringBuilder content = new StringBuilder();
+            for (int w = 0; w < 400; w++) {
+                content.append(words[random.nextInt(words.length)]).append(w % 15 == 14 ? ". " : " ");
+            }
+            Article article = new Article("Article headline number " + i, content.toString());
+            article.setId((long) i);
+            article.setAuthor(authors.get(i % authors.size()));
+            article.setStatus(ArticleStatus.PUBLISHED);
+            article.setPublished(true);
+            article.setImageUrl("/api/media/" + i + "?w=640");
+            article.setViewCount(random.nextInt(100_000));
+            articles.add(article);
+        }
+        return articles;
+    }
+}
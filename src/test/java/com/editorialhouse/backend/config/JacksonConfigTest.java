@@ -0,0 +1,68 @@
+package com.editorialhouse.backend.config;
+
+import com.editorialhouse.backend.model.Role;
+import com.editorialhouse.backend.model.User;
+import com.editorialhouse.backend.model.article.Article;
+import com.editorialhouse.backend.model.article.ArticleStatus;
+import com.editorialhouse.backend.repository.article.ArticleRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JacksonConfigTest {
+
+    private final ObjectMapper mapper = Jackson2ObjectMapperBuilder.json()
+            .modulesToInstall(new JacksonConfig().blackbirdModule())
+            .build();
+
+    // Spring Data projections are JDK proxies; Blackbird used to fail on them with "module jdk.proxyN does not open"
+    @Test
+    void serializesRepositoryProjections() throws Exception {
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", 42L);
+        row.put("title", "Night shift");
+        row.put("status", ArticleStatus.APPROVED);
+        row.put("published", true);
+        ArticleRepository.ArticleSummary summary = new SpelAwareProxyProjectionFactory()
+                .createProjection(ArticleRepository.ArticleSummary.class, row);
+
+        JsonNode json = mapper.readTree(mapper.writeValueAsString(summary));
+
+        assertEquals(42L, json.get("id").asLong());
+        assertEquals("Night shift", json.get("title").asText());
+        assertEquals("APPROVED", json.get("status").asText());
+        assertTrue(json.get("published").asBoolean());
+    }
+
+    @Test
+    void writesArticleAuthorsWithoutCredentialsOrAccessRights() throws Exception {
+        User author = new User("clerk", "$2a$10$hash", "Clerk Joe", "Junior Journalist", "clerk.png", new Date());
+        author.setId(2L);
+        author.setRoles(List.of(new Role("CLERK")));
+        Article article = new Article("Night shift", "Body");
+        article.setAuthor(author);
+
+        JsonNode json = mapper.readTree(mapper.writeValueAsString(article)).get("author");
+
+        assertEquals("clerk", json.get("username").asText());
+        assertEquals("Clerk Joe", json.get("fullName").asText());
+        for (String hidden : List.of("password", "sessionExpirationDate", "roles", "customPrivileges", "enabled")) {
+            assertFalse(json.has(hidden), hidden);
+        }
+        // Still bound from sign-up requests
+        User signUp = mapper.readValue("{\"username\":\"newbie\",\"password\":\"secret\"}", User.class);
+        assertEquals("secret", signUp.getPassword());
+        assertFalse(mapper.readTree(mapper.writeValueAsString(signUp)).has("password"));
+    }
+}
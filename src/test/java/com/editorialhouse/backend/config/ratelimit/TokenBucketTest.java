@@ -0,0 +1,91 @@
+package com.editorialhouse.backend.config.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final long START = 1_000 * SECOND;
+
+    // One token per second, bursts of three: the same tolerance RateLimiter derives from a policy
+    private static TokenBucket bucket() {
+        return new TokenBucket(SECOND, 2 * SECOND, START);
+    }
+
+    @Test
+    void allowsTheBurstAtOnceThenReportsTheWait() {
+        TokenBucket bucket = bucket();
+        assertEquals(0, bucket.tryAcquire(START));
+        assertEquals(0, bucket.tryAcquire(START));
+        assertEquals(0, bucket.tryAcquire(START));
+        assertEquals(SECOND, bucket.tryAcquire(START));
+        assertEquals(SECOND / 2, bucket.tryAcquire(START + SECOND / 2));
+    }
+
+    @Test
+    void refillsOneTokenPerInterval() {
+        TokenBucket bucket = bucket();
+        for (int i = 0; i < 3; i++) {
+            bucket.tryAcquire(START);
+        }
+        assertEquals(0, bucket.tryAcquire(START + SECOND));
+        assertTrue(bucket.tryAcquire(START + SECOND) > 0);
+        assertEquals(0, bucket.tryAcquire(START + 2 * SECOND));
+    }
+
+    @Test
+    void refillsNoMoreThanTheBurstWhileIdle() {
+        TokenBucket bucket = bucket();
+        bucket.tryAcquire(START);
+        assertFalse(bucket.isIdle(START));
+        long later = START + 60 * SECOND;
+        assertTrue(bucket.isIdle(later));
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, bucket.tryAcquire(later));
+        }
+        assertTrue(bucket.tryAcquire(later) > 0);
+    }
+
+    @Test
+    void concurrentCallersNeverExceedTheBurst() throws Exception {
+        TokenBucket bucket = new TokenBucket(SECOND, 99 * SECOND, START);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    int granted = 0;
+                    for (int i = 0; i < 1000; i++) {
+                        if (bucket.tryAcquire(START) == 0) {
+                            granted++;
+                        }
+                    }
+                    return granted;
+                }));
+            }
+            start.countDown();
+            int granted = 0;
+            for (Future<Integer> result : results) {
+                granted += result.get();
+            }
+            assertEquals(100, granted);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
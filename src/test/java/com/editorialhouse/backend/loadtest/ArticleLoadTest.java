@@ -0,0 +1,228 @@
+package com.editorialhouse.backend.loadtest;
+
+import com.editorialhouse.backend.repository.RoleRepository;
+import com.editorialhouse.backend.repository.UserRepository;
+import com.editorialhouse.backend.repository.article.ArticleRepository;
+import com.editorialhouse.backend.repository.article.CommentRepository;
+import com.editorialhouse.backend.repository.article.RatingRepository;
+import com.editorialhouse.backend.service.article.ArticleRankingService;
+import com.editorialhouse.backend.service.article.FeedSnapshotService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drives a realistic request mix through the real HTTP stack against a seeded embedded database and compares
+ * SQL statements per request and relative p99 latency with the stored baseline. Absolute latency and throughput are
+ * logged next to the baseline but never fail the run; see {@link LoadTestBaseline}.
+ * <p>
+ * Run with {@code mvn test -Pload-test}; see {@link LoadTestScale} for the dataset sizes.
+ */
+@Tag("load-test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadtest")
+@Import(LoadTestConfig.class)
+class ArticleLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ArticleLoadTest.class);
+
+    private enum Operation {
+        // The reference for relative latency: cheap, anonymous and the most frequent
+        FEED("feed", 55),
+        ARTICLE("article", 15),
+        LOGIN("login", 5),
+        COMMENT("comment", 10),
+        RATE("rate", 10),
+        APPROVE("approve", 5);
+
+        final String key;
+        final int weight;
+
+        Operation(String key, int weight) {
+            this.key = key;
+            this.weight = weight;
+        }
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private RoleRepository roleRepository;
+    @Autowired
+    private ArticleRepository articleRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private RatingRepository ratingRepository;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    @Autowired
+    private ArticleRankingService rankingService;
+    @Autowired
+    private FeedSnapshotService feedSnapshotService;
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+
+    private LoadTestDataSeeder.Dataset dataset;
+    private final ConcurrentLinkedQueue<Long> pendingArticles = new ConcurrentLinkedQueue<>();
+
+    @Test
+    void requestMixStaysWithinBaseline() throws Exception {
+        LoadTestScale scale = LoadTestScale.fromSystemProperties();
+        dataset = new LoadTestDataSeeder(userRepository, roleRepository, articleRepository, commentRepository, ratingRepository, passwordEncoder)
+                .seed(scale);
+        pendingArticles.addAll(dataset.pendingArticleIds());
+        // Both were built at startup, before the dataset existed
+        rankingService.rebuild();
+        feedSnapshotService.refresh();
+
+        String baseUrl = "http://localhost:" + port;
+        LoadTestClient admin = new LoadTestClient(baseUrl);
+        admin.login("admin", "adminpass");
+        List<LoadTestClient> readers = new ArrayList<>();
+        for (int i = 0; i < scale.clients(); i++) {
+            LoadTestClient reader = new LoadTestClient(baseUrl);
+            reader.login(dataset.usernames().get(i % dataset.usernames().size()), LoadTestDataSeeder.PASSWORD);
+            readers.add(reader);
+        }
+
+        // Warm up the JIT, pools and caches before measuring
+        run(readers, admin, Integer.getInteger("loadtest.warmup-seconds", 5), new LinkedHashMap<>());
+        sqlStatementCounter.reset();
+
+        Map<Operation, LatencyRecorder> recorders = new LinkedHashMap<>();
+        double elapsedSeconds = run(readers, admin, scale.durationSeconds(), recorders);
+
+        Map<String, LoadTestBaseline.Result> results = new LinkedHashMap<>();
+        StringBuilder report = new StringBuilder(String.format(Locale.ROOT,
+                "%nLoad test, scale %s (%d clients, %d s)%n%-8s %9s %7s %9s %9s %10s %8s%n",
+                scale.name(), scale.clients(), scale.durationSeconds(), "op", "requests", "errors", "p50 ms", "p99 ms", "req/s", "sql/req"));
+        long errors = 0;
+        for (Map.Entry<Operation, LatencyRecorder> entry : recorders.entrySet()) {
+            LatencyRecorder.Summary summary = entry.getValue().summarize(elapsedSeconds);
+            double sqlPerRequest = sqlStatementCounter.totals(entry.getKey().key).perRequest();
+            results.put(entry.getKey().key, new LoadTestBaseline.Result(summary, sqlPerRequest));
+            errors += summary.errors();
+            report.append(String.format(Locale.ROOT, "%-8s %9d %7d %9.2f %9.2f %10.1f %8.2f%n", entry.getKey().key,
+                    summary.count(), summary.errors(), summary.p50Millis(), summary.p99Millis(), summary.throughputPerSecond(), sqlPerRequest));
+        }
+        LoadTestBaseline baseline = new LoadTestBaseline(scale.name());
+        List<String> comparison = baseline.latencyComparison(results);
+        if (!comparison.isEmpty()) {
+            report.append(String.format("Against the baseline (report only, depends on the machine):%n"))
+                    .append(String.join(String.format("%n"), comparison));
+        }
+        log.info("{}", report);
+
+        boolean update = Boolean.getBoolean("loadtest.update-baseline");
+        Path written = baseline.write(results, update);
+        log.info("{} {}", update ? "Baseline updated:" : "Results written to", written.toAbsolutePath());
+
+        assertEquals(0, errors, "Requests failed during the load test");
+        if (!update && baseline.exists()) {
+            double tolerance = Double.parseDouble(System.getProperty("loadtest.latency-tolerance", "2.0"));
+            List<String> regressions = baseline.regressions(results, Operation.FEED.key, tolerance);
+            assertTrue(regressions.isEmpty(), "Regressions against the stored baseline:\n" + String.join("\n", regressions));
+        }
+    }
+
+    private double run(List<LoadTestClient> readers, LoadTestClient admin, int seconds, Map<Operation, LatencyRecorder> recorders) throws Exception {
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new LatencyRecorder());
+        }
+        int totalWeight = 0;
+        for (Operation operation : Operation.values()) {
+            totalWeight += operation.weight;
+        }
+        int weights = totalWeight;
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.SECONDS.toNanos(seconds);
+
+        ExecutorService executor = Executors.newFixedThreadPool(readers.size());
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (LoadTestClient reader : readers) {
+                workers.add(executor.submit(() -> {
+                    LoadTestClient anonymous = new LoadTestClient("http://localhost:" + port);
+                    // Separate jar, so the feed reads above stay anonymous
+                    LoadTestClient signIn = new LoadTestClient("http://localhost:" + port);
+                    while (System.nanoTime() < deadline) {
+                        Operation operation = pick(weights);
+                        long began = System.nanoTime();
+                        boolean success = execute(operation, reader, anonymous, signIn, admin);
+                        recorders.get(operation).record(System.nanoTime() - began, success);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return (System.nanoTime() - start) / 1e9;
+    }
+
+    private boolean execute(Operation operation, LoadTestClient reader, LoadTestClient anonymous, LoadTestClient signIn, LoadTestClient admin) throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<Long> published = dataset.publishedArticleIds();
+        Long articleId = published.get(random.nextInt(published.size()));
+        HttpResponse<byte[]> response = switch (operation) {
+            case FEED -> anonymous.get(operation.key, "/api/articles/published", "Accept-Encoding", "br, gzip");
+            case ARTICLE -> anonymous.get(operation.key, "/api/articles/" + articleId);
+            case LOGIN -> signIn.post(operation.key, "/api/auth/login", "{\"username\":\""
+                    + dataset.usernames().get(random.nextInt(dataset.usernames().size())) + "\",\"password\":\"" + LoadTestDataSeeder.PASSWORD + "\"}");
+            case COMMENT -> reader.post(operation.key, "/api/articles/" + articleId + "/interactions/comment",
+                    "{\"content\":\"Load test comment " + random.nextInt() + "\"}");
+            case RATE -> reader.post(operation.key, "/api/articles/" + articleId + "/interactions/rate",
+                    "{\"score\":" + (1 + random.nextInt(5)) + "}");
+            case APPROVE -> {
+                Long pendingId = pendingArticles.poll();
+                // Once every seeded submission is approved, keep the supervisor busy with the approval queue
+                yield pendingId == null
+                        ? admin.get(operation.key, "/api/articles/pending")
+                        : admin.post(operation.key, "/api/articles/" + pendingId + "/approve", null);
+            }
+        };
+        return response.statusCode() / 100 == 2;
+    }
+
+    private static Operation pick(int totalWeight) {
+        int roll = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Operation operation : Operation.values()) {
+            roll -= operation.weight;
+            if (roll < 0) {
+                return operation;
+            }
+        }
+        throw new IllegalStateException();
+    }
+}
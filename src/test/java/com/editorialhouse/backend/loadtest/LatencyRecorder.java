@@ -0,0 +1,40 @@
+package com.editorialhouse.backend.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Latencies of one operation, recorded by many client threads. Samples are kept raw so that percentiles are exact.
+ */
+class LatencyRecorder {
+
+    record Summary(long count, long errors, double p50Millis, double p99Millis, double throughputPerSecond) {
+    }
+
+    private long[] samples = new long[1024];
+    private int size;
+    private long errors;
+
+    synchronized void record(long nanos, boolean success) {
+        if (!success) {
+            errors++;
+        }
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = nanos;
+    }
+
+    synchronized Summary summarize(double elapsedSeconds) {
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        return new Summary(size, errors, percentile(sorted, 0.50), percentile(sorted, 0.99), size / elapsedSeconds);
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+}
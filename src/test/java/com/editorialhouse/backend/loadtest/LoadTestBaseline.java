@@ -0,0 +1,126 @@
+package com.editorialhouse.backend.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Stored results of a previous run, one file per scale under {@code src/test/resources/loadtest}.
+ * <p>
+ * SQL counts are deterministic for a seeded dataset and are compared tightly. Absolute latency and throughput depend
+ * on the machine, so they are only reported. What is gated is each operation's p99 relative to the p99 of a reference
+ * operation from the same run, which cancels out the speed of the machine; it may grow by a configurable factor
+ * ({@code -Dloadtest.latency-tolerance}, default 2).
+ */
+class LoadTestBaseline {
+
+    private static final Path SOURCE_DIR = Path.of("src/test/resources/loadtest");
+    private static final Path CANDIDATE_DIR = Path.of("target/loadtest");
+    private static final double SQL_TOLERANCE = 0.5;
+
+    record Result(LatencyRecorder.Summary latency, double sqlPerRequest) {
+    }
+
+    private final String scale;
+    private final Properties stored = new Properties();
+
+    LoadTestBaseline(String scale) throws IOException {
+        this.scale = scale;
+        try (InputStream in = LoadTestBaseline.class.getResourceAsStream("/loadtest/" + fileName())) {
+            if (in != null) {
+                stored.load(in);
+            }
+        }
+    }
+
+    boolean exists() {
+        return !stored.isEmpty();
+    }
+
+    /**
+     * Differences that fail the run: more SQL statements per request, or a p99 that grew relative to the reference
+     * operation's p99.
+     */
+    List<String> regressions(Map<String, Result> results, String reference, double latencyTolerance) {
+        List<String> regressions = new ArrayList<>();
+        double referenceP99 = value(reference, "p99-ms");
+        Result referenceResult = results.get(reference);
+        results.forEach((operation, result) -> {
+            double sql = value(operation, "sql-per-request");
+            if (stored.containsKey(operation + ".sql-per-request") && result.sqlPerRequest() > sql + SQL_TOLERANCE) {
+                regressions.add(String.format(Locale.ROOT, "%s issues %.2f SQL statements per request, baseline %.2f",
+                        operation, result.sqlPerRequest(), sql));
+            }
+            double p99 = value(operation, "p99-ms");
+            if (operation.equals(reference) || p99 <= 0 || referenceP99 <= 0 || referenceResult == null
+                    || referenceResult.latency().p99Millis() <= 0) {
+                return;
+            }
+            double ratio = result.latency().p99Millis() / referenceResult.latency().p99Millis();
+            double baselineRatio = p99 / referenceP99;
+            if (ratio > baselineRatio * latencyTolerance) {
+                regressions.add(String.format(Locale.ROOT, "%s p99 is %.2f x the %s p99, baseline %.2f x %.1f",
+                        operation, ratio, reference, baselineRatio, latencyTolerance));
+            }
+        });
+        return regressions;
+    }
+
+    /**
+     * Absolute latency and throughput next to the baseline, for the report only.
+     */
+    List<String> latencyComparison(Map<String, Result> results) {
+        List<String> lines = new ArrayList<>();
+        results.forEach((operation, result) -> {
+            double p99 = value(operation, "p99-ms");
+            double throughput = value(operation, "throughput");
+            if (p99 > 0 && throughput > 0) {
+                lines.add(String.format(Locale.ROOT, "%-8s p99 %9.2f ms (baseline %9.2f), %8.1f req/s (baseline %8.1f)",
+                        operation, result.latency().p99Millis(), p99, result.latency().throughputPerSecond(), throughput));
+            }
+        });
+        return lines;
+    }
+
+    /**
+     * Writes the results as a baseline: into the source tree when {@code update} is set, otherwise next to the
+     * build output so it can be inspected and copied over by hand.
+     */
+    Path write(Map<String, Result> results, boolean update) throws IOException {
+        Map<String, String> values = new TreeMap<>();
+        results.forEach((operation, result) -> {
+            values.put(operation + ".p99-ms", format(result.latency().p99Millis()));
+            values.put(operation + ".throughput", format(result.latency().throughputPerSecond()));
+            values.put(operation + ".sql-per-request", format(result.sqlPerRequest()));
+        });
+        Path dir = update ? SOURCE_DIR : CANDIDATE_DIR;
+        Files.createDirectories(dir);
+        Path file = dir.resolve(fileName());
+        // Written by hand rather than with Properties.store, so keys stay sorted and baseline diffs readable
+        List<String> lines = new ArrayList<>();
+        lines.add("# Load-test baseline, scale " + scale);
+        values.forEach((key, value) -> lines.add(key + "=" + value));
+        Files.write(file, lines);
+        return file;
+    }
+
+    private double value(String operation, String metric) {
+        String value = stored.getProperty(operation + "." + metric);
+        return value == null ? 0 : Double.parseDouble(value);
+    }
+
+    private String fileName() {
+        return "baseline-" + scale + ".properties";
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.2f", value);
+    }
+}
@@ -0,0 +1,76 @@
+package com.editorialhouse.backend.loadtest;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.HttpCookie;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * One simulated browser: its own cookie jar (session and XSRF-TOKEN) and the CSRF header on writes.
+ */
+class LoadTestClient {
+
+    private final String baseUrl;
+    private final CookieManager cookies = new CookieManager();
+    private final HttpClient http;
+
+    LoadTestClient(String baseUrl) {
+        this.baseUrl = baseUrl;
+        this.http = HttpClient.newBuilder()
+                .cookieHandler(cookies)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    HttpResponse<byte[]> get(String operation, String path, String... headers) throws IOException, InterruptedException {
+        HttpRequest.Builder request = request(operation, path).GET();
+        if (headers.length > 0) {
+            request.headers(headers);
+        }
+        return http.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    HttpResponse<byte[]> post(String operation, String path, String json) throws IOException, InterruptedException {
+        String csrfToken = csrfToken();
+        if (csrfToken == null) {
+            // The XSRF-TOKEN cookie is handed out on the first request of a session
+            get(null, "/api/articles/rankings/trending?size=1");
+            csrfToken = csrfToken();
+        }
+        HttpRequest.Builder request = request(operation, path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json == null ? "" : json));
+        if (csrfToken != null) {
+            request.header("X-XSRF-TOKEN", csrfToken);
+        }
+        return http.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    void login(String username, String password) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = post("login", "/api/auth/login",
+                "{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}");
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login of " + username + " failed with " + response.statusCode());
+        }
+    }
+
+    private HttpRequest.Builder request(String operation, String path) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(30));
+        if (operation != null) {
+            request.header(SqlStatementCounter.OPERATION_HEADER, operation);
+        }
+        return request;
+    }
+
+    private String csrfToken() {
+        return cookies.getCookieStore().getCookies().stream()
+                .filter(cookie -> cookie.getName().equals("XSRF-TOKEN"))
+                .map(HttpCookie::getValue)
+                .findFirst()
+                .orElse(null);
+    }
+}
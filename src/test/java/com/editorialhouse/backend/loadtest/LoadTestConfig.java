@@ -0,0 +1,23 @@
+package com.editorialhouse.backend.loadtest;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+
+@TestConfiguration(proxyBeanMethods = false)
+class LoadTestConfig {
+
+    // Static: it post-processes the DataSource, so it has to exist before the rest of the configuration
+    @Bean
+    static SqlStatementCounter sqlStatementCounter() {
+        return new SqlStatementCounter();
+    }
+
+    @Bean
+    FilterRegistrationBean<SqlStatementCounter> sqlStatementCounterRegistration(SqlStatementCounter counter) {
+        FilterRegistrationBean<SqlStatementCounter> registration = new FilterRegistrationBean<>(counter);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE); // Include statements issued by the security filters
+        return registration;
+    }
+}
@@ -0,0 +1,118 @@
+package com.editorialhouse.backend.loadtest;
+
+import com.editorialhouse.backend.model.Role;
+import com.editorialhouse.backend.model.User;
+import com.editorialhouse.backend.model.article.Article;
+import com.editorialhouse.backend.model.article.ArticleStatus;
+import com.editorialhouse.backend.model.article.Comment;
+import com.editorialhouse.backend.model.article.Rating;
+import com.editorialhouse.backend.repository.RoleRepository;
+import com.editorialhouse.backend.repository.UserRepository;
+import com.editorialhouse.backend.repository.article.ArticleRepository;
+import com.editorialhouse.backend.repository.article.CommentRepository;
+import com.editorialhouse.backend.repository.article.RatingRepository;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fills the embedded database with readers, published and pending articles, comments and ratings.
+ */
+class LoadTestDataSeeder {
+
+    static final String PASSWORD = "loadtest-password";
+
+    record Dataset(List<String> usernames, List<Long> publishedArticleIds, List<Long> pendingArticleIds) {
+    }
+
+    private final UserRepository userRepository;
+    private final RoleRepository roleRepository;
+    private final ArticleRepository articleRepository;
+    private final CommentRepository commentRepository;
+    private final RatingRepository ratingRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final Random random = new Random(42); // Same dataset on every run, so SQL counts are comparable
+
+    LoadTestDataSeeder(UserRepository userRepository, RoleRepository roleRepository, ArticleRepository articleRepository,
+                       CommentRepository commentRepository, RatingRepository ratingRepository, PasswordEncoder passwordEncoder) {
+        this.userRepository = userRepository;
+        this.roleRepository = roleRepository;
+        this.articleRepository = articleRepository;
+        this.commentRepository = commentRepository;
+        this.ratingRepository = ratingRepository;
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    Dataset seed(LoadTestScale scale) {
+        Role userRole = roleRepository.findByName("USER");
+        User author = userRepository.findByUsername("clerk").orElseThrow();
+        // BCrypt is deliberately slow; hash once and share it across all seeded readers
+        String passwordHash = passwordEncoder.encode(PASSWORD);
+        Date sessionExpiration = new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(7));
+
+        List<User> users = new ArrayList<>(scale.users());
+        for (int i = 0; i < scale.users(); i++) {
+            User user = new User("reader" + i, passwordHash, "Reader " + i, "Web User", "default_user.png", sessionExpiration);
+            user.setRoles(Set.of(userRole));
+            user.setCustomPrivileges(Set.of());
+            users.add(user);
+        }
+        users = userRepository.saveAll(users);
+
+        List<Article> published = articleRepository.saveAll(articles(author, scale.publishedArticles(), ArticleStatus.PUBLISHED));
+        List<Article> pending = articleRepository.saveAll(articles(author, scale.pendingArticles(), ArticleStatus.PENDING_APPROVAL));
+
+        List<Comment> comments = new ArrayList<>();
+        List<Rating> ratings = new ArrayList<>();
+        for (Article article : published) {
+            for (int i = 0; i < scale.commentsPerArticle(); i++) {
+                Comment comment = new Comment(paragraph(12));
+                comment.setArticle(article);
+                comment.setUser(users.get(random.nextInt(users.size())));
+                comments.add(comment);
+            }
+            // Distinct readers per article, as enforced by the unique (article_id, user_id) index
+            int offset = random.nextInt(users.size());
+            for (int i = 0; i < scale.ratingsPerArticle(); i++) {
+                Rating rating = new Rating(1 + random.nextInt(5));
+                rating.setArticle(article);
+                rating.setUser(users.get((offset + i) % users.size()));
+                ratings.add(rating);
+            }
+        }
+        commentRepository.saveAll(comments);
+        ratingRepository.saveAll(ratings);
+
+        return new Dataset(users.stream().map(User::getUsername).toList(),
+                published.stream().map(Article::getId).toList(),
+                pending.stream().map(Article::getId).toList());
+    }
+
+    private List<Article> articles(User author, int count, ArticleStatus status) {
+        List<Article> articles = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Article article = new Article(paragraph(8), paragraph(200));
+            article.setAuthor(author);
+            article.setStatus(status);
+            article.setPublished(status == ArticleStatus.PUBLISHED);
+            articles.add(article);
+        }
+        return articles;
+    }
+
+    private static final String[] WORDS = ("the editor said council budget vote city report police school weather market " +
+            "election health court river festival museum transport housing energy sports team season").split(" ");
+
+    private String paragraph(int words) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            text.append(i == 0 ? "" : " ").append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,27 @@
+package com.editorialhouse.backend.loadtest;
+
+/**
+ * Dataset sizes and load shape. Chosen with {@code -Dloadtest.scale=small|medium|large}; each value can be
+ * overridden individually, e.g. {@code -Dloadtest.articles=5000}.
+ */
+record LoadTestScale(String name, int users, int publishedArticles, int pendingArticles, int commentsPerArticle,
+                     int ratingsPerArticle, int clients, int durationSeconds) {
+
+    static LoadTestScale fromSystemProperties() {
+        String name = System.getProperty("loadtest.scale", "small");
+        LoadTestScale preset = switch (name) {
+            case "small" -> new LoadTestScale(name, 50, 200, 200, 5, 5, 16, 20);
+            case "medium" -> new LoadTestScale(name, 500, 2_000, 1_000, 10, 10, 32, 60);
+            case "large" -> new LoadTestScale(name, 5_000, 20_000, 5_000, 20, 20, 64, 120);
+            default -> throw new IllegalArgumentException("Unknown load-test scale: " + name);
+        };
+        return new LoadTestScale(name,
+                Integer.getInteger("loadtest.users", preset.users),
+                Integer.getInteger("loadtest.articles", preset.publishedArticles),
+                Integer.getInteger("loadtest.pending-articles", preset.pendingArticles),
+                Integer.getInteger("loadtest.comments-per-article", preset.commentsPerArticle),
+                Integer.getInteger("loadtest.ratings-per-article", Math.min(preset.ratingsPerArticle, preset.users)),
+                Integer.getInteger("loadtest.clients", preset.clients),
+                Integer.getInteger("loadtest.duration-seconds", preset.durationSeconds));
+    }
+}
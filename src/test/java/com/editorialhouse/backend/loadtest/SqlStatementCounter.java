@@ -0,0 +1,102 @@
+package com.editorialhouse.backend.loadtest;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the JDBC statements each HTTP request prepares, grouped by the {@code X-Load-Op} header the load
+ * generator sends. Statements issued by background work (view-count flushes, snapshot refreshes) are not
+ * attributed to any request.
+ */
+class SqlStatementCounter extends OncePerRequestFilter implements BeanPostProcessor {
+
+    static final String OPERATION_HEADER = "X-Load-Op";
+
+    private static final Set<String> STATEMENT_METHODS = Set.of("prepareStatement", "prepareCall", "createStatement");
+    private static final ThreadLocal<long[]> CURRENT = new ThreadLocal<>();
+
+    record Totals(long requests, long statements) {
+        double perRequest() {
+            return requests == 0 ? 0 : (double) statements / requests;
+        }
+    }
+
+    private final Map<String, LongAdder[]> totals = new ConcurrentHashMap<>();
+
+    Totals totals(String operation) {
+        LongAdder[] counters = totals.get(operation);
+        return counters == null ? new Totals(0, 0) : new Totals(counters[0].sum(), counters[1].sum());
+    }
+
+    void reset() {
+        totals.clear();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain) throws ServletException, IOException {
+        String operation = request.getHeader(OPERATION_HEADER);
+        if (operation == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        long[] count = new long[1];
+        CURRENT.set(count);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            CURRENT.remove();
+            LongAdder[] counters = totals.computeIfAbsent(operation, op -> new LongAdder[]{new LongAdder(), new LongAdder()});
+            counters[0].increment();
+            counters[1].add(count[0]);
+        }
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource dataSource)) {
+            return bean;
+        }
+        return new DelegatingDataSource(dataSource) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return counting(super.getConnection());
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                return counting(super.getConnection(username, password));
+            }
+        };
+    }
+
+    private static Connection counting(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(SqlStatementCounter.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    long[] count = CURRENT.get();
+                    if (count != null && STATEMENT_METHODS.contains(method.getName())) {
+                        count[0]++;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+}
@@ -0,0 +1,104 @@
+package com.editorialhouse.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BloomFilterTest {
+
+    private static final int INSERTIONS = 100_000;
+    private static final int PROBES = 200_000;
+
+    @Test
+    void neverReportsAnInsertedValueAsMissing() {
+        BloomFilter filter = new BloomFilter(INSERTIONS, 0.01);
+        for (int i = 0; i < INSERTIONS; i++) {
+            filter.put("user" + i);
+        }
+        for (int i = 0; i < INSERTIONS; i++) {
+            assertTrue(filter.mightContain("user" + i), "user" + i);
+        }
+    }
+
+    @Test
+    void staysNearTheConfiguredFalsePositiveRateAtCapacity() {
+        for (double rate : new double[] {0.05, 0.01, 0.001}) {
+            BloomFilter filter = new BloomFilter(INSERTIONS, rate);
+            for (int i = 0; i < INSERTIONS; i++) {
+                filter.put("user" + i);
+            }
+
+            double observed = falsePositiveRate(filter);
+            // Sampling noise is well under half the expected rate at this many probes
+            assertTrue(observed <= rate * 1.5, "rate " + rate + " observed " + observed);
+        }
+    }
+
+    @Test
+    void degradesOnlyOnceOverfilled() {
+        BloomFilter filter = new BloomFilter(INSERTIONS / 10, 0.01);
+        for (int i = 0; i < INSERTIONS; i++) {
+            filter.put("user" + i);
+        }
+        assertTrue(falsePositiveRate(filter) > 0.5);
+    }
+
+    @Test
+    void sizesTheBitArrayForTheRate() {
+        // 100k values at 1% need about 9.6 bits each
+        long bytes = new BloomFilter(INSERTIONS, 0.01).sizeInBytes();
+        assertTrue(bytes >= 119_000 && bytes <= 121_000, "size " + bytes);
+        assertEquals(8, new BloomFilter(0, 0.5).sizeInBytes());
+        assertFalse(new BloomFilter(1, 0.01).mightContain("anyone"));
+    }
+
+    @Test
+    void concurrentPutsLoseNoBits() throws Exception {
+        BloomFilter filter = new BloomFilter(INSERTIONS, 0.01);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int offset = t;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = offset; i < INSERTIONS; i += threads) {
+                        filter.put("user" + i);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        for (int i = 0; i < INSERTIONS; i++) {
+            assertTrue(filter.mightContain("user" + i), "user" + i);
+        }
+    }
+
+    // Probes names that were never inserted
+    private static double falsePositiveRate(BloomFilter filter) {
+        int positives = 0;
+        for (int i = 0; i < PROBES; i++) {
+            if (filter.mightContain("absent" + i)) {
+                positives++;
+            }
+        }
+        return (double) positives / PROBES;
+    }
+}
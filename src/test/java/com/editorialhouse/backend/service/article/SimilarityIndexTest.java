@@ -0,0 +1,163 @@
+package com.editorialhouse.backend.service.article;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SimilarityIndexTest {
+
+    // The defaults of RelatedArticlesService: 32 bands of 4 rows
+    private static final int SHINGLE_SIZE = 3;
+    private static final int HASHES = 128;
+    private static final int BANDS = 32;
+    private static final double MIN_SIMILARITY = 0.1;
+
+    private final MinHasher minHasher = new MinHasher(SHINGLE_SIZE, HASHES);
+
+    @Test
+    void estimatesTheJaccardSimilarityOfShingles() {
+        Random random = new Random(7);
+        for (double changed : new double[] {0.02, 0.1, 0.25, 0.5}) {
+            List<String> original = words(random, 400);
+            List<String> edited = edit(random, original, changed);
+
+            double exact = jaccard(shingles(original), shingles(edited));
+            double estimate = estimate(minHasher.signature(String.join(" ", original)), minHasher.signature(String.join(" ", edited)));
+            // The standard error with 128 hashes is at most 0.044
+            assertEquals(exact, estimate, 0.13, "changed " + changed);
+        }
+    }
+
+    @Test
+    void ignoresCaseAndPunctuation() {
+        int[] plain = minHasher.signature("the quick brown fox jumps over the lazy dog");
+        int[] styled = minHasher.signature("The QUICK brown fox -- jumps over, the lazy dog!");
+        assertEquals(1.0, estimate(plain, styled));
+        assertNull(minHasher.signature(" ... "));
+        assertNull(minHasher.signature(null));
+        // Shorter than a shingle, still one shingle
+        assertEquals(HASHES, minHasher.signature("breaking").length);
+    }
+
+    @Test
+    void findsNearDuplicatesAmongUnrelatedArticles() {
+        Random random = new Random(42);
+        SimilarityIndex index = new SimilarityIndex(HASHES, BANDS, 0);
+        int originals = 300;
+        int copies = 60;
+        List<List<String>> texts = new ArrayList<>();
+        for (long id = 0; id < originals; id++) {
+            List<String> text = words(random, 300);
+            texts.add(text);
+            index.put(id, "article " + id, minHasher.signature(String.join(" ", text)));
+        }
+        // Lightly edited copies: one word in twenty replaced, roughly 0.75 similar
+        for (long id = 0; id < copies; id++) {
+            List<String> copy = edit(random, texts.get((int) id), 0.05);
+            index.put(originals + id, "copy of " + id, minHasher.signature(String.join(" ", copy)));
+        }
+
+        for (long id = 0; id < copies; id++) {
+            List<SimilarityIndex.Match> matches = index.similar(originals + id, 5, MIN_SIMILARITY);
+            assertEquals(1, matches.size(), "copy of " + id + ": " + matches);
+            assertEquals(id, matches.get(0).articleId());
+            assertTrue(matches.get(0).similarity() > 0.5, "copy of " + id + ": " + matches);
+        }
+        // Unrelated articles share no shingles worth reporting
+        for (long id = copies; id < originals; id++) {
+            assertEquals(List.of(), index.similar(id, 5, MIN_SIMILARITY), "article " + id);
+        }
+    }
+
+    @Test
+    void ranksCloserCopiesFirst() {
+        Random random = new Random(3);
+        SimilarityIndex index = new SimilarityIndex(HASHES, BANDS, 0);
+        List<String> original = words(random, 300);
+        index.put(1, "original", minHasher.signature(String.join(" ", original)));
+        index.put(2, "light edit", minHasher.signature(String.join(" ", edit(random, original, 0.02))));
+        index.put(3, "heavier edit", minHasher.signature(String.join(" ", edit(random, original, 0.08))));
+
+        List<SimilarityIndex.Match> matches = index.similar(1, 5, MIN_SIMILARITY);
+        assertEquals(List.of(2L, 3L), matches.stream().map(SimilarityIndex.Match::articleId).toList());
+        assertEquals(List.of(2L), index.similar(1, 1, MIN_SIMILARITY).stream().map(SimilarityIndex.Match::articleId).toList());
+    }
+
+    @Test
+    void dropsRemovedArticlesAndReusesTheirSlots() {
+        Random random = new Random(11);
+        SimilarityIndex index = new SimilarityIndex(HASHES, BANDS, 0);
+        List<String> original = words(random, 200);
+        int[] signature = minHasher.signature(String.join(" ", original));
+        index.put(1, "original", signature);
+        index.put(2, "copy", minHasher.signature(String.join(" ", edit(random, original, 0.02))));
+
+        index.remove(2);
+        assertEquals(List.of(), index.similar(1, 5, MIN_SIMILARITY));
+        assertEquals(List.of(), index.similar(2, 5, MIN_SIMILARITY));
+
+        // Takes the freed slot; re-putting an article replaces its old signature
+        index.put(3, "another copy", signature);
+        index.put(1, "rewritten", minHasher.signature(String.join(" ", words(random, 200))));
+        assertEquals(2, index.size());
+        assertEquals(List.of(), index.similar(3, 5, MIN_SIMILARITY));
+    }
+
+    @Test
+    void rejectsBandsThatDoNotDivideTheSignature() {
+        assertThrows(IllegalArgumentException.class, () -> new SimilarityIndex(HASHES, 30, 0));
+        assertThrows(IllegalArgumentException.class, () -> new MinHasher(0, HASHES));
+    }
+
+    // Words drawn from a vocabulary large enough that unrelated texts rarely share a three-word run
+    private static List<String> words(Random random, int count) {
+        List<String> words = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            words.add("w" + random.nextInt(5000));
+        }
+        return words;
+    }
+
+    private static List<String> edit(Random random, List<String> text, double fraction) {
+        List<String> edited = new ArrayList<>(text);
+        for (int i = 0; i < edited.size(); i++) {
+            if (random.nextDouble() < fraction) {
+                edited.set(i, "edit" + random.nextInt(1_000_000));
+            }
+        }
+        return edited;
+    }
+
+    private static Set<String> shingles(List<String> words) {
+        Set<String> shingles = new HashSet<>();
+        for (int start = 0; start + SHINGLE_SIZE <= words.size(); start++) {
+            shingles.add(String.join(" ", words.subList(start, start + SHINGLE_SIZE)));
+        }
+        return shingles;
+    }
+
+    private static double jaccard(Set<String> a, Set<String> b) {
+        Set<String> intersection = new HashSet<>(a);
+        intersection.retainAll(b);
+        return (double) intersection.size() / (a.size() + b.size() - intersection.size());
+    }
+
+    private static double estimate(int[] a, int[] b) {
+        int agreeing = 0;
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] == b[i]) {
+                agreeing++;
+            }
+        }
+        return (double) agreeing / a.length;
+    }
+}
@@ -0,0 +1,96 @@
+package com.editorialhouse.backend.service.article;
+
+import com.editorialhouse.backend.dto.DiffSegment;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TextDeltaTest {
+
+    private static final String BASE = "The council met on Tuesday.\n\nIt approved the budget after a long debate, "
+            + "and the mayor thanked the residents who came to speak.";
+
+    @Test
+    void roundTripsTypicalEdits() {
+        assertRoundTrip(BASE, BASE);
+        assertRoundTrip(BASE, BASE.replace("Tuesday", "Wednesday evening"));
+        assertRoundTrip(BASE, BASE.replace(" after a long debate,", ""));
+        assertRoundTrip(BASE, "Breaking: " + BASE + "\n\nUpdated at 18:00.");
+        assertRoundTrip(BASE, "");
+        assertRoundTrip("", BASE);
+    }
+
+    @Test
+    void roundTripsMultiByteText() {
+        String base = "Le conseil s'est réuni mardi à Zürich — 会议 🎉 fin.";
+        assertRoundTrip(base, base.replace("mardi", "mercredi 🗳️"));
+        assertRoundTrip(base, base.replace("会议", "会议结束"));
+    }
+
+    @Test
+    void roundTripsRandomWordEdits() {
+        Random random = new Random(7);
+        List<String> words = IntStream.range(0, 400).mapToObj(i -> "word" + random.nextInt(50)).toList();
+        String base = String.join(" ", words);
+        for (int round = 0; round < 50; round++) {
+            List<String> edited = new ArrayList<>(words);
+            for (int edit = 0; edit < 1 + random.nextInt(20); edit++) {
+                int at = random.nextInt(edited.size());
+                switch (random.nextInt(3)) {
+                    case 0 -> edited.add(at, "new" + random.nextInt(1000));
+                    case 1 -> edited.remove(at);
+                    default -> edited.set(at, "changed" + random.nextInt(1000));
+                }
+            }
+            assertRoundTrip(base, String.join(" ", edited));
+        }
+    }
+
+    @Test
+    void smallEditIsMuchSmallerThanTheText() {
+        String base = IntStream.range(0, 2000).mapToObj(i -> "sentence" + i).collect(Collectors.joining(" "));
+        byte[] delta = TextDelta.encode(base, base.replace("sentence1000", "paragraph"));
+        assertNotNull(delta);
+        assertTrue(delta.length < 64, "delta of " + delta.length + " bytes");
+    }
+
+    @Test
+    void givesUpOnTextsTooFarApart() {
+        String base = IntStream.range(0, TextDelta.MAX_EDIT_DISTANCE).mapToObj(i -> "a" + i).collect(Collectors.joining(" "));
+        String target = IntStream.range(0, TextDelta.MAX_EDIT_DISTANCE).mapToObj(i -> "b" + i).collect(Collectors.joining(" "));
+        assertNull(TextDelta.encode(base, target));
+
+        List<DiffSegment> segments = TextDelta.segments(base, target);
+        assertEquals(List.of(new DiffSegment(DiffSegment.Type.DELETE, base), new DiffSegment(DiffSegment.Type.INSERT, target)), segments);
+    }
+
+    @Test
+    void segmentsRebuildBothTexts() {
+        String target = BASE.replace("Tuesday", "Friday").replace("long ", "");
+        List<DiffSegment> segments = TextDelta.segments(BASE, target);
+        assertEquals(BASE, join(segments, DiffSegment.Type.INSERT));
+        assertEquals(target, join(segments, DiffSegment.Type.DELETE));
+    }
+
+    private static void assertRoundTrip(String base, String target) {
+        byte[] delta = TextDelta.encode(base, target);
+        assertNotNull(delta);
+        assertEquals(target, TextDelta.apply(base, delta));
+        assertTrue(delta.length <= target.getBytes(StandardCharsets.UTF_8).length + 16);
+    }
+
+    // The text on one side: every segment except those of the given type
+    private static String join(List<DiffSegment> segments, DiffSegment.Type skipped) {
+        return segments.stream().filter(segment -> segment.type() != skipped).map(DiffSegment::text).collect(Collectors.joining());
+    }
+}
@@ -0,0 +1,124 @@
+package com.editorialhouse.backend.service.audit;
+
+import com.editorialhouse.backend.dto.AuditEntry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AuditSegmentTest {
+
+    private static final int SEGMENT_SIZE = 4096;
+    // Magic header, then the first record's length prefix
+    private static final int FIRST_RECORD = Long.BYTES;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void readsBackWhatWasAppended() throws IOException {
+        Path path = segmentWithThreeRecords();
+
+        List<AuditEntry> entries = AuditSegment.read(path, entry -> true);
+
+        assertEquals(List.of("article 1", "article 2", "article 3"), entries.stream().map(AuditEntry::detail).toList());
+        AuditEntry first = entries.get(0);
+        assertEquals(1_000L, first.timestamp().getTime());
+        assertEquals(AuditAction.ARTICLE_APPROVED, first.action());
+        assertEquals("admin", first.actor());
+        assertEquals(1L, first.targetId());
+        assertEquals(1, AuditSegment.read(path, entry -> entry.targetId() == 2).size());
+    }
+
+    @Test
+    void stopsAtATornRecordAndOverwritesItOnReopen() throws IOException {
+        Path path = segmentWithThreeRecords();
+        int third = recordOffset(path, 2);
+        // The length reached the disk but part of the body did not
+        flipByte(path, third + Integer.BYTES + 3);
+
+        assertEquals(2, AuditSegment.read(path, entry -> true).size());
+
+        AuditSegment segment = AuditSegment.openForAppend(path);
+        assertTrue(segment.append(4_000L, AuditAction.ARTICLE_REJECTED, "clerk", 4L, "article 4"));
+        segment.close();
+        List<AuditEntry> entries = AuditSegment.read(path, entry -> true);
+        assertEquals(List.of("article 1", "article 2", "article 4"), entries.stream().map(AuditEntry::detail).toList());
+    }
+
+    @Test
+    void reopeningClearsStaleBytesBehindTheTornRecord() throws IOException {
+        Path path = segmentWithThreeRecords();
+        // Tear the second record: the intact third one behind it must not resurface after later appends
+        flipByte(path, recordOffset(path, 1) + Integer.BYTES);
+
+        AuditSegment segment = AuditSegment.openForAppend(path);
+        segment.close();
+
+        assertEquals(1, AuditSegment.read(path, entry -> true).size());
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer tail = channel.map(FileChannel.MapMode.READ_ONLY, recordOffset(path, 1), SEGMENT_SIZE - recordOffset(path, 1));
+            while (tail.hasRemaining()) {
+                assertEquals(0, tail.get());
+            }
+        }
+    }
+
+    @Test
+    void ignoresALengthWithoutItsRecord() throws IOException {
+        Path path = segmentWithThreeRecords();
+        int end = recordOffset(path, 3);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, 40), end);
+        }
+
+        assertEquals(3, AuditSegment.read(path, entry -> true).size());
+    }
+
+    @Test
+    void refusesARecordThatDoesNotFit() throws IOException {
+        AuditSegment segment = AuditSegment.create(dir.resolve("small.seg"), 64);
+        assertFalse(segment.append(1L, AuditAction.ARTICLE_APPROVED, "admin", 1L, "x".repeat(100)));
+        assertTrue(segment.append(1L, AuditAction.ARTICLE_APPROVED, "admin", 1L, "short"));
+        segment.close();
+    }
+
+    private Path segmentWithThreeRecords() throws IOException {
+        Path path = dir.resolve("audit-0001.seg");
+        AuditSegment segment = AuditSegment.create(path, SEGMENT_SIZE);
+        for (int i = 1; i <= 3; i++) {
+            assertTrue(segment.append(i * 1_000L, AuditAction.ARTICLE_APPROVED, "admin", i, "article " + i));
+        }
+        segment.close();
+        return path;
+    }
+
+    // Offset of the n-th record (0-based), following the length prefixes
+    private static int recordOffset(Path path, int n) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+        int offset = FIRST_RECORD;
+        for (int i = 0; i < n; i++) {
+            offset += Integer.BYTES + buffer.getInt(offset);
+        }
+        return offset;
+    }
+
+    private static void flipByte(Path path, int offset) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer one = ByteBuffer.allocate(1);
+            channel.read(one, offset);
+            one.put(0, (byte) ~one.get(0)).rewind();
+            channel.write(one, offset);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.editorialhouse.backend.service.media;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MediaSignaturesTest {
+
+    @Test
+    void detectsRasterImagesAudioAndVideo() {
+        assertEquals("image/jpeg", MediaSignatures.detect(bytes(0xFF, 0xD8, 0xFF, 0xE0, 0, 0x10)));
+        assertEquals("image/png", MediaSignatures.detect(bytes(0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A, 0)));
+        assertEquals("image/gif", MediaSignatures.detect(ascii("GIF89a...")));
+        assertEquals("image/webp", MediaSignatures.detect(ascii("RIFF\0\0\0\0WEBPVP8 ")));
+        assertEquals("audio/wav", MediaSignatures.detect(ascii("RIFF\0\0\0\0WAVEfmt ")));
+        assertEquals("video/mp4", MediaSignatures.detect(ascii("\0\0\0\u0018ftypisom")));
+        assertEquals("audio/mp4", MediaSignatures.detect(ascii("\0\0\0\u0018ftypM4A ")));
+        assertEquals("video/webm", MediaSignatures.detect(bytes(0x1A, 0x45, 0xDF, 0xA3, 0x9F)));
+        assertEquals("audio/mpeg", MediaSignatures.detect(ascii("ID3\u0004\0")));
+        assertEquals("audio/mpeg", MediaSignatures.detect(bytes(0xFF, 0xFB, 0x90, 0x64)));
+        assertEquals("audio/flac", MediaSignatures.detect(ascii("fLaC\0")));
+    }
+
+    @Test
+    void tellsOggVideoFromOggAudio() {
+        byte[] page = new byte[40];
+        System.arraycopy(ascii("OggS"), 0, page, 0, 4);
+        page[26] = 1; // one segment, so the packet starts at 28
+        System.arraycopy(bytes(0x01, 'v', 'o', 'r', 'b', 'i', 's'), 0, page, 28, 7);
+        assertEquals("audio/ogg", MediaSignatures.detect(page));
+        System.arraycopy(bytes(0x80, 't', 'h', 'e', 'o', 'r', 'a'), 0, page, 28, 7);
+        assertEquals("video/ogg", MediaSignatures.detect(page));
+    }
+
+    @Test
+    void rejectsActiveContentWhateverItClaimsToBe() {
+        assertNull(MediaSignatures.detect(ascii("<svg xmlns=\"http://www.w3.org/2000/svg\" onload=\"alert(1)\"/>")));
+        assertNull(MediaSignatures.detect(ascii("<?xml version=\"1.0\"?><svg/>")));
+        assertNull(MediaSignatures.detect(ascii("<!DOCTYPE html><script>alert(1)</script>")));
+        assertNull(MediaSignatures.detect(ascii("%PDF-1.7")));
+        assertNull(MediaSignatures.detect(new byte[0]));
+        assertNull(MediaSignatures.detect(ascii("RIFF")));
+    }
+
+    @Test
+    void onlySniffedTypesRenderInline() {
+        assertTrue(MediaSignatures.isInline("image/png"));
+        assertTrue(MediaSignatures.isInline("video/mp4"));
+        assertFalse(MediaSignatures.isInline("image/svg+xml"));
+        assertFalse(MediaSignatures.isInline("text/html"));
+        assertFalse(MediaSignatures.isInline(null));
+    }
+
+    private static byte[] bytes(int... values) {
+        byte[] bytes = new byte[values.length];
+        for (int i = 0; i < values.length; i++) {
+            bytes[i] = (byte) values[i];
+        }
+        return bytes;
+    }
+
+    private static byte[] ascii(String text) {
+        return text.getBytes(StandardCharsets.ISO_8859_1);
+    }
+}
@@ -0,0 +1,112 @@
+package com.editorialhouse.backend.service.moderation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PatternAutomatonTest {
+
+    @Test
+    void reportsOverlappingAndNestedMatches() {
+        List<String> patterns = List.of("he", "she", "his", "hers");
+
+        // "she" and "he" end at the same position; "hers" overlaps both
+        assertEquals(List.of("she@1-4", "he@2-4", "hers@2-6"), matches(patterns, "ushers"));
+        assertEquals(List.of("his@0-3"), matches(patterns, "his"));
+        assertEquals(List.of(), matches(patterns, "xyz"));
+    }
+
+    @Test
+    void reportsEveryOccurrenceOfSelfOverlappingPatterns() {
+        List<String> patterns = List.of("a", "aa", "aaa");
+
+        assertEquals(List.of("a@0-1", "aa@0-2", "a@1-2", "aaa@0-3", "aa@1-3", "a@2-3"), matches(patterns, "aaa"));
+        assertEquals(List.of("abab@0-4", "abab@2-6"), matches(List.of("abab"), "ababab"));
+    }
+
+    @Test
+    void followsFailLinksAcrossPatternsSharingPrefixes() {
+        List<String> patterns = List.of("kill yourself", "yourself", "kill");
+
+        // At one end position the longest pattern comes first, then its suffixes along the output links
+        assertEquals(List.of("kill@4-8", "kill yourself@4-17", "yourself@9-17"), matches(patterns, "now kill yourself"));
+    }
+
+    @Test
+    void stopsWhenTheVisitorSaysSo() {
+        PatternAutomaton automaton = build(List.of("a"));
+        List<Integer> seen = new ArrayList<>();
+        char[] text = "aaaa".toCharArray();
+        automaton.scan(text, text.length, (pattern, start, end) -> {
+            seen.add(start);
+            return seen.size() < 2;
+        });
+        assertEquals(List.of(0, 1), seen);
+    }
+
+    @Test
+    void handlesCharactersOutsideTheRootTable() {
+        assertEquals(List.of("ß@0-1", "ß@7-8", "straße@3-9"), matches(List.of("ß", "straße"), "ß, straße"));
+    }
+
+    @Test
+    void findsTheSameMatchesAsANaiveSearch() {
+        Random random = new Random(42);
+        for (int round = 0; round < 200; round++) {
+            Set<String> unique = new LinkedHashSet<>();
+            int count = 1 + random.nextInt(12);
+            while (unique.size() < count) {
+                unique.add(randomString(random, 1 + random.nextInt(4)));
+            }
+            List<String> patterns = List.copyOf(unique);
+            String text = randomString(random, random.nextInt(60));
+
+            assertEquals(naive(patterns, text), sorted(matches(patterns, text)), "patterns " + patterns + " in " + text);
+        }
+    }
+
+    private static List<String> matches(List<String> patterns, String text) {
+        List<String> found = new ArrayList<>();
+        char[] chars = text.toCharArray();
+        build(patterns).scan(chars, chars.length, (pattern, start, end) -> {
+            found.add(patterns.get(pattern) + "@" + start + "-" + end);
+            return true;
+        });
+        return found;
+    }
+
+    private static PatternAutomaton build(List<String> patterns) {
+        return PatternAutomaton.build(patterns.stream().map(String::toCharArray).toList());
+    }
+
+    private static List<String> naive(List<String> patterns, String text) {
+        List<String> found = new ArrayList<>();
+        for (String pattern : patterns) {
+            for (int start = text.indexOf(pattern); start >= 0; start = text.indexOf(pattern, start + 1)) {
+                found.add(pattern + "@" + start + "-" + (start + pattern.length()));
+            }
+        }
+        return sorted(found);
+    }
+
+    private static List<String> sorted(List<String> matches) {
+        List<String> copy = new ArrayList<>(matches);
+        copy.sort(null);
+        return copy;
+    }
+
+    // A three-letter alphabet, so patterns overlap often
+    private static String randomString(Random random, int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append((char) ('a' + random.nextInt(3)));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,137 @@
+package com.editorialhouse.backend.service.notification;
+
+import com.editorialhouse.backend.model.notification.OutboxMessage;
+import com.editorialhouse.backend.repository.notification.OutboxMessageRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OutboxDispatcherTest {
+
+    private static final long LEASE_MS = 60_000;
+
+    private final OutboxMessageRepository repository = mock(OutboxMessageRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    @Test
+    void deletesDeliveredMessagesAndReschedulesOnlyTheFailedOne() {
+        Map<Long, OutboxMessage> rows = claimable(message(1, 0), message(2, 0), message(3, 0));
+        List<List<Long>> deliveries = new ArrayList<>();
+        NotificationSink sink = messages -> {
+            deliveries.add(messages.stream().map(OutboxMessage::getId).toList());
+            if (messages.stream().anyMatch(message -> message.getId() == 2)) {
+                throw new IllegalStateException("recipient 2 unreachable");
+            }
+        };
+
+        long before = System.currentTimeMillis();
+        dispatcher(sink, 5).dispatch();
+
+        assertEquals(List.of(List.of(1L, 2L, 3L), List.of(1L), List.of(2L), List.of(3L)), deliveries);
+        verify(repository).deleteAllByIdInBatch(List.of(1L, 3L));
+        OutboxMessage failed = rows.get(2L);
+        assertEquals(OutboxMessage.Status.PENDING, failed.getStatus());
+        assertEquals(1, failed.getAttempts());
+        assertTrue(failed.getLastError().contains("recipient 2 unreachable"));
+        assertTrue(failed.getAvailableAt().getTime() < before + LEASE_MS, "backoff replaces the lease");
+    }
+
+    @Test
+    void leasesClaimedMessagesBeforeAnySinkRuns() {
+        Map<Long, OutboxMessage> rows = claimable(message(1, 0));
+        long before = System.currentTimeMillis();
+        NotificationSink sink = messages -> {
+            OutboxMessage claimed = rows.get(1L);
+            assertEquals(1, claimed.getAttempts());
+            assertTrue(claimed.getAvailableAt().getTime() >= before + LEASE_MS);
+        };
+
+        dispatcher(sink, 5).dispatch();
+
+        verify(repository).deleteAllByIdInBatch(List.of(1L));
+        verify(repository, never()).findAllById(anyCollection());
+    }
+
+    @Test
+    void parksOnlyTheMessageThatRanOutOfAttempts() {
+        Map<Long, OutboxMessage> rows = claimable(message(1, 4), message(2, 0));
+        NotificationSink sink = messages -> {
+            throw new IllegalStateException("sink down");
+        };
+
+        dispatcher(sink, 5).dispatch();
+
+        assertEquals(OutboxMessage.Status.FAILED, rows.get(1L).getStatus());
+        assertEquals(5, rows.get(1L).getAttempts());
+        assertEquals(OutboxMessage.Status.PENDING, rows.get(2L).getStatus());
+        assertEquals(1, rows.get(2L).getAttempts());
+        verify(repository, never()).deleteAllByIdInBatch(any());
+    }
+
+    @Test
+    void skipsMessagesAnotherNodeAlreadyFinished() {
+        claimable(message(1, 0));
+        // The lease ran out and another node delivered and deleted the row in the meantime
+        when(repository.findAllById(anyCollection())).thenReturn(List.of());
+        NotificationSink sink = messages -> {
+            throw new IllegalStateException("slow sink");
+        };
+
+        dispatcher(sink, 5).dispatch();
+
+        verify(repository).findAllById(Set.of(1L));
+        verify(repository, never()).deleteAllByIdInBatch(any());
+    }
+
+    private OutboxDispatcher dispatcher(NotificationSink sink, int maxAttempts) {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        return new OutboxDispatcher(repository, List.of(sink), transactionManager, 100, maxAttempts, 1000, 600_000, LEASE_MS);
+    }
+
+    private Map<Long, OutboxMessage> claimable(OutboxMessage... messages) {
+        List<OutboxMessage> batch = List.of(messages);
+        when(repository.claimBatch(eq(OutboxMessage.Status.PENDING), any(Date.class), any(Pageable.class))).thenReturn(batch);
+        Map<Long, OutboxMessage> rows = batch.stream().collect(Collectors.toMap(OutboxMessage::getId, Function.identity()));
+        when(repository.findAllById(anyCollection())).thenAnswer(invocation -> {
+            Iterable<Long> ids = invocation.getArgument(0);
+            List<OutboxMessage> found = new ArrayList<>();
+            ids.forEach(id -> found.add(assertFound(rows.get(id))));
+            return found;
+        });
+        return rows;
+    }
+
+    private static OutboxMessage assertFound(OutboxMessage message) {
+        assertNotNull(message);
+        return message;
+    }
+
+    private static OutboxMessage message(long id, int attempts) {
+        OutboxMessage message = new OutboxMessage();
+        message.setId(id);
+        message.setType("ARTICLE_APPROVED");
+        message.setPayload("{}");
+        message.setAttempts(attempts);
+        return message;
+    }
+}